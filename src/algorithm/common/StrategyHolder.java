@@ -0,0 +1,60 @@
+package algorithm.common;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free, hot-swappable holder for a strategy, shared by the *Service facades.
+ * <p>
+ * The current strategy and its call counter sit together in one immutable slot behind an
+ * {@link AtomicReference}, so the hot path ({@link #acquire()}) is one volatile read plus a
+ * {@link LongAdder} increment: no locks, and each call is counted against the strategy it
+ * actually ran, even while another thread swaps it. Counting is per strategy <em>class</em>,
+ * not per instance: installing a fresh instance of a class used before continues that class's
+ * count, so repeated swaps cannot grow the counter map beyond the number of classes.
+ */
+public final class StrategyHolder<S> {
+
+    private record Slot<S>(S strategy, LongAdder calls) {
+    }
+
+    private final ConcurrentHashMap<Class<?>, LongAdder> callsByClass = new ConcurrentHashMap<>();
+    private final AtomicReference<Slot<S>> current;
+
+    public StrategyHolder(S initial) {
+        this.current = new AtomicReference<>(slotFor(initial));
+    }
+
+    /** Current strategy, counted as one call. Use this on the hot path. */
+    public S acquire() {
+        Slot<S> slot = current.get();
+        slot.calls.increment();
+        return slot.strategy;
+    }
+
+    /** Current strategy, not counted. */
+    public S get() {
+        return current.get().strategy;
+    }
+
+    /** Installs {@code strategy} and returns the previous one. */
+    public S set(S strategy) {
+        return current.getAndSet(slotFor(strategy)).strategy;
+    }
+
+    /** Snapshot of calls per strategy class ever installed. */
+    public Map<Class<?>, Long> callCountsByClass() {
+        Map<Class<?>, Long> out = new HashMap<>();
+        callsByClass.forEach((cls, calls) -> out.put(cls, calls.sum()));
+        return out;
+    }
+
+    private Slot<S> slotFor(S strategy) {
+        Objects.requireNonNull(strategy, "strategy");
+        return new Slot<>(strategy, callsByClass.computeIfAbsent(strategy.getClass(), cls -> new LongAdder()));
+    }
+}
@@ -1,24 +1,32 @@
 package algorithm.containerWithMostWater;
 
+import algorithm.common.StrategyHolder;
+
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
-/** Facade service around AreaStrategy for easy use / testing. */
+/** Facade service around AreaStrategy for easy use / testing. Thread-safe strategy swaps. */
 public final class ContainerService {
 
-    private AreaStrategy strategy;
+    private final StrategyHolder<AreaStrategy> strategy;
 
     public ContainerService(AreaStrategy strategy) {
-        this.strategy = strategy;
+        this.strategy = new StrategyHolder<>(strategy);
     }
 
     public void setStrategy(AreaStrategy strategy) {
-        this.strategy = strategy;
+        this.strategy.set(strategy);
     }
 
     public int maxArea(List<Integer> heights) {
-        return strategy.maxArea(heights);
+        return strategy.acquire().maxArea(heights);
+    }
+
+    /** Calls served per strategy class since this service was created. */
+    public Map<Class<?>, Long> callCountsByClass() {
+        return strategy.callCountsByClass();
     }
 
     public static List<Integer> parseHeights(String csv) {
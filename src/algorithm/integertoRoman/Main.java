@@ -8,15 +8,27 @@ import java.util.Arrays;
  * Usage:
  *   1) No args  -> runs demo cases
  *   2) With args -> treats each arg as an integer and prints the result
+ *   3) --table   -> uses the digit-place table converter instead of the greedy one
+ *   4) --vinculum -> extended range (long) with overlines written as parentheses, e.g. 4000 -> (IV)
  *
  * Examples:
  *   java integertoroman.Main
  *   java integertoroman.Main 3749 58 1994
+ *   java integertoroman.Main --table 3749 58
+ *   java integertoroman.Main --vinculum 1234567
  */
 public final class Main {
 
     public static void main(String[] args) {
         RomanNumeralConverter converter = new GreedyRomanConverter();
+        if (args.length > 0 && args[0].equals("--table")) {
+            converter = new TableRomanConverter();
+            args = Arrays.copyOfRange(args, 1, args.length);
+        }
+        if (args.length > 0 && args[0].equals("--vinculum")) {
+            runVinculum(Arrays.copyOfRange(args, 1, args.length));
+            return;
+        }
 
         if (args.length == 0) {
             // Demo mode
@@ -40,4 +52,24 @@ public final class Main {
             }
         }
     }
-}
\ No newline at end of file
+
+    private static void runVinculum(String[] args) {
+        VinculumRomanConverter converter = new VinculumRomanConverter();
+        String[] inputs = args;
+        if (inputs.length == 0) {
+            // Demo mode
+            inputs = new String[]{"3999", "4000", "1234567", "5000000", Long.toString(Long.MAX_VALUE)};
+            System.out.println("Demo (no args): " + Arrays.toString(inputs));
+        }
+        for (String arg : inputs) {
+            try {
+                long n = Long.parseLong(arg.trim());
+                System.out.printf("%4d -> %s%n", n, converter.toRoman(n));
+            } catch (NumberFormatException ex) {
+                System.err.println("Not an integer: " + arg);
+            } catch (IllegalArgumentException ex) {
+                System.err.println("Invalid input (" + arg + "): " + ex.getMessage());
+            }
+        }
+    }
+}
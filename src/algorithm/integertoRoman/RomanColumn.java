@@ -0,0 +1,44 @@
+package algorithm.integertoRoman;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Columnar result of {@link RomanColumnEncoder}: all numerals back to back as ASCII in
+ * {@code data}, numeral {@code i} starting at {@code offsets[i]}. {@code offsets} has one
+ * extra slot holding the total size, and each numeral is followed by
+ * {@code separatorLength} separator bytes (0 or 1), so {@code data} can be written out as is.
+ */
+public record RomanColumn(byte[] data, int[] offsets, int separatorLength) {
+
+    public int size() {
+        return offsets.length - 1;
+    }
+
+    /** Total bytes used in {@code data}. */
+    public int byteLength() {
+        return offsets[offsets.length - 1];
+    }
+
+    public int start(int i) {
+        return offsets[i];
+    }
+
+    /** Symbols in numeral {@code i}, separator excluded. */
+    public int length(int i) {
+        return offsets[i + 1] - offsets[i] - separatorLength;
+    }
+
+    /** Numeral {@code i} as a String; for display, the bulk path never needs it. */
+    public String get(int i) {
+        return new String(data, offsets[i], length(i), StandardCharsets.US_ASCII);
+    }
+
+    /** Writes the whole column at the channel's current position. */
+    public void writeTo(FileChannel ch) throws IOException {
+        ByteBuffer buf = ByteBuffer.wrap(data, 0, byteLength());
+        while (buf.hasRemaining()) ch.write(buf);
+    }
+}
@@ -0,0 +1,89 @@
+package algorithm.integertoRoman;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Bulk Integer → Roman for whole columns: encodes an {@code int[]} into one contiguous ASCII
+ * {@code byte[]} plus an offsets array ({@link RomanColumn}) instead of one String per value.
+ * <p>
+ * Two passes over blocks of {@link RomanEncodeTask#BLOCK} values: the first sizes each block
+ * (and rejects out-of-range values), a prefix sum over block sizes gives every block its
+ * start, and the second writes all blocks in parallel with {@link TableRomanConverter}.
+ * Small inputs stay on the caller thread. With a separator (e.g. '\n') the data is directly a
+ * text column, readable back with {@code romanToInteger.RomanColumnDecoder}.
+ * Time: O(n / p) for p workers, Space: O(n) for the output only.
+ */
+public final class RomanColumnEncoder {
+
+    private final ForkJoinPool pool;
+    private final int separatorLength;
+    private final byte separator;
+
+    /** Numerals back to back, no separator. */
+    public RomanColumnEncoder() {
+        this(ForkJoinPool.commonPool(), -1);
+    }
+
+    /** Each numeral followed by {@code separator} (an ASCII byte). */
+    public RomanColumnEncoder(byte separator) {
+        this(ForkJoinPool.commonPool(), ascii(separator));
+    }
+
+    /** {@code separator < 0} means none. */
+    public RomanColumnEncoder(ForkJoinPool pool, int separator) {
+        if (separator > 127) throw new IllegalArgumentException("separator must be ASCII");
+        this.pool = Objects.requireNonNull(pool, "pool");
+        this.separatorLength = separator < 0 ? 0 : 1;
+        this.separator = (byte) Math.max(separator, 0);
+    }
+
+    /**
+     * Encodes every value; each must be in [1, 3999].
+     *
+     * @throws IllegalArgumentException naming the first offending index found
+     */
+    public RomanColumn encode(int[] values) {
+        if (values == null) throw new IllegalArgumentException("input is null");
+        int n = values.length;
+        int blocks = (n + RomanEncodeTask.BLOCK - 1) / RomanEncodeTask.BLOCK;
+        long[] blockBytes = new long[blocks];
+        int[] offsets = new int[n + 1];
+        if (blocks == 0) return new RomanColumn(new byte[0], offsets, separatorLength);
+
+        run(new RomanEncodeTask(values, blockBytes, null, offsets, separatorLength, separator, 0, blocks), n);
+
+        long total = 0;
+        for (int b = 0; b < blocks; b++) {
+            long size = blockBytes[b];
+            blockBytes[b] = total;
+            total += size;
+        }
+        if (total > Integer.MAX_VALUE - 8) throw new IllegalArgumentException("column exceeds 2 GiB");
+        byte[] data = new byte[(int) total];
+
+        run(new RomanEncodeTask(values, blockBytes, data, offsets, separatorLength, separator, 0, blocks), n);
+        offsets[n] = (int) total;
+        return new RomanColumn(data, offsets, separatorLength);
+    }
+
+    /** Encodes {@code values} and writes the bytes at the channel's current position. */
+    public RomanColumn encodeTo(int[] values, FileChannel ch) throws IOException {
+        RomanColumn column = encode(values);
+        column.writeTo(ch);
+        return column;
+    }
+
+    /** Non-ASCII bytes are negative and would otherwise read as "no separator". */
+    private static int ascii(byte separator) {
+        if (separator < 0) throw new IllegalArgumentException("separator must be ASCII");
+        return separator;
+    }
+
+    private void run(RomanEncodeTask task, int n) {
+        if (n < RomanEncodeTask.PARALLEL_THRESHOLD) task.runSequential();
+        else pool.invoke(task);
+    }
+}
@@ -0,0 +1,76 @@
+package algorithm.integertoRoman;
+
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Fork/join task behind {@link RomanColumnEncoder}, run twice over the same block range:
+ * first to size every block ({@code blockBytes[b]}), then, once the caller has turned those
+ * into start offsets, to write each block's numerals at its own offset. Blocks write disjoint
+ * ranges of {@code data} and {@code offsets}, so no synchronization is needed.
+ */
+@SuppressWarnings("serial") // fork/join task, never serialized
+final class RomanEncodeTask extends RecursiveAction {
+    static final int BLOCK = 4096;
+    /** Below this many values the whole job runs on the caller thread. */
+    static final int PARALLEL_THRESHOLD = 1 << 16;
+
+    private final int[] values;
+    private final long[] blockBytes;   // sizing pass output; write pass input (block start offsets)
+    private final byte[] data;         // null during the sizing pass
+    private final int[] offsets;
+    private final int separatorLength;
+    private final byte separator;
+    private final int fromBlock;
+    private final int toBlock;
+
+    RomanEncodeTask(int[] values, long[] blockBytes, byte[] data, int[] offsets,
+                    int separatorLength, byte separator, int fromBlock, int toBlock) {
+        this.values = values;
+        this.blockBytes = blockBytes;
+        this.data = data;
+        this.offsets = offsets;
+        this.separatorLength = separatorLength;
+        this.separator = separator;
+        this.fromBlock = fromBlock;
+        this.toBlock = toBlock;
+    }
+
+    @Override
+    protected void compute() {
+        if (toBlock - fromBlock == 1) {
+            runBlock(fromBlock);
+            return;
+        }
+        int mid = (fromBlock + toBlock) >>> 1;
+        RomanEncodeTask left = new RomanEncodeTask(values, blockBytes, data, offsets, separatorLength, separator, fromBlock, mid);
+        left.fork();
+        new RomanEncodeTask(values, blockBytes, data, offsets, separatorLength, separator, mid, toBlock).compute();
+        left.join();
+    }
+
+    void runSequential() {
+        for (int b = fromBlock; b < toBlock; b++) runBlock(b);
+    }
+
+    private void runBlock(int b) {
+        int from = b * BLOCK, to = Math.min(values.length, from + BLOCK);
+        if (data == null) {
+            long bytes = 0;
+            for (int i = from; i < to; i++) {
+                int v = values[i];
+                if (v < 1 || v > 3999) {
+                    throw new IllegalArgumentException("values[" + i + "] = " + v + " not in [1, 3999]");
+                }
+                bytes += TableRomanConverter.lengthUnchecked(v) + separatorLength;
+            }
+            blockBytes[b] = bytes;
+        } else {
+            int pos = (int) blockBytes[b];
+            for (int i = from; i < to; i++) {
+                offsets[i] = pos;
+                pos = TableRomanConverter.write(values[i], data, pos);
+                if (separatorLength != 0) data[pos++] = separator;
+            }
+        }
+    }
+}
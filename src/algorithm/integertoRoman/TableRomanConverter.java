@@ -0,0 +1,95 @@
+package algorithm.integertoRoman;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Digit-place converter: one table per decimal place (thousands, hundreds, tens, ones),
+ * so a numeral is at most four table lookups and four appends, with no loop over the
+ * 13 greedy pairs.
+ * <p>
+ * {@link #appendTo(int, StringBuilder)} and {@link #writeTo(int, byte[], int)} write into a
+ * caller buffer, so a report of many numbers needs no allocation per number;
+ * {@link #length(int)} gives the exact size up front.
+ * Time: O(1), Space: O(1).
+ */
+public final class TableRomanConverter implements RomanNumeralConverter {
+
+    /** Longest numeral in range: MMMDCCCLXXXVIII (3888). */
+    public static final int MAX_LENGTH = 15;
+
+    private static final String[] THOUSANDS = {"", "M", "MM", "MMM"};
+    private static final String[] HUNDREDS = {"", "C", "CC", "CCC", "CD", "D", "DC", "DCC", "DCCC", "CM"};
+    private static final String[] TENS = {"", "X", "XX", "XXX", "XL", "L", "LX", "LXX", "LXXX", "XC"};
+    private static final String[] ONES = {"", "I", "II", "III", "IV", "V", "VI", "VII", "VIII", "IX"};
+
+    // same tables as ASCII bytes, indexed [place][digit] with place 0 = ones
+    private static final byte[][][] BYTES = {ascii(ONES), ascii(TENS), ascii(HUNDREDS), ascii(THOUSANDS)};
+    /** Symbols per decimal digit; identical for every place. */
+    private static final int[] DIGIT_LENGTH = {0, 1, 2, 3, 2, 1, 2, 3, 4, 2};
+
+    @Override
+    public String intToRoman(int num) {
+        byte[] buf = new byte[MAX_LENGTH];
+        int len = writeTo(num, buf, 0);
+        return new String(buf, 0, len, StandardCharsets.ISO_8859_1);
+    }
+
+    /** Appends the numeral for {@code num} to {@code sb} and returns {@code sb}. */
+    public StringBuilder appendTo(int num, StringBuilder sb) {
+        checkRange(num);
+        return sb.append(THOUSANDS[num / 1000])
+                .append(HUNDREDS[num / 100 % 10])
+                .append(TENS[num / 10 % 10])
+                .append(ONES[num % 10]);
+    }
+
+    /**
+     * Writes the numeral for {@code num} as ASCII into {@code dst} at {@code offset}.
+     *
+     * @return the offset just past the last byte written
+     */
+    public int writeTo(int num, byte[] dst, int offset) {
+        checkRange(num);
+        if (dst == null) throw new IllegalArgumentException("input is null");
+        if (offset < 0 || offset > dst.length - length(num)) {
+            throw new IndexOutOfBoundsException("offset " + offset + ", length " + dst.length);
+        }
+        return write(num, dst, offset);
+    }
+
+    /** {@link #writeTo} without the checks; callers guarantee range and room. */
+    static int write(int num, byte[] dst, int offset) {
+        offset = put(BYTES[3][num / 1000], dst, offset);
+        offset = put(BYTES[2][num / 100 % 10], dst, offset);
+        offset = put(BYTES[1][num / 10 % 10], dst, offset);
+        return put(BYTES[0][num % 10], dst, offset);
+    }
+
+    /** Number of symbols in the numeral for {@code num}. */
+    public static int length(int num) {
+        checkRange(num);
+        return lengthUnchecked(num);
+    }
+
+    static int lengthUnchecked(int num) {
+        return DIGIT_LENGTH[num / 1000] + DIGIT_LENGTH[num / 100 % 10]
+                + DIGIT_LENGTH[num / 10 % 10] + DIGIT_LENGTH[num % 10];
+    }
+
+    private static int put(byte[] symbols, byte[] dst, int offset) {
+        for (byte b : symbols) dst[offset++] = b;
+        return offset;
+    }
+
+    private static void checkRange(int num) {
+        if (num < 1 || num > 3999) {
+            throw new IllegalArgumentException("num must be in [1, 3999]");
+        }
+    }
+
+    private static byte[][] ascii(String[] table) {
+        byte[][] out = new byte[table.length][];
+        for (int i = 0; i < table.length; i++) out[i] = table[i].getBytes(StandardCharsets.US_ASCII);
+        return out;
+    }
+}
@@ -0,0 +1,50 @@
+package algorithm.integertoRoman;
+
+/**
+ * Integer → Roman beyond 3999 using the vinculum (overline = × 1000), written in ASCII as
+ * parentheses: {@code (X)} is X with an overline, i.e. 10,000, and nesting stacks overlines.
+ * <p>
+ * Convention (canonical, so every value has exactly one spelling):
+ * <pre>
+ *   roman(n) = plain(n)                                  if n &lt;= 3999
+ *   roman(n) = "(" + roman(n / 1000) + ")" + plain(n % 1000)   otherwise
+ * </pre>
+ * where {@code plain} is the classical form (empty for 0). So 4000 = "(IV)",
+ * 1,234,567 = "(MCCXXXIV)DLXVII", 5,000,000 = "((V))". Inside the innermost group M may still
+ * be used up to 3999, as in the plain range. Read back with
+ * {@code romanToInteger.VinculumRomanParser}.
+ * Time: O(digits), Space: O(digits).
+ */
+public final class VinculumRomanConverter implements RomanNumeralConverter {
+
+    private final TableRomanConverter plain = new TableRomanConverter();
+
+    /** Accepts the whole positive int range, not only [1, 3999]. */
+    @Override
+    public String intToRoman(int num) {
+        return toRoman(num);
+    }
+
+    public String toRoman(long num) {
+        return appendTo(num, new StringBuilder(32)).toString();
+    }
+
+    /** Appends the numeral for {@code num} (≥ 1) to {@code sb} and returns {@code sb}. */
+    public StringBuilder appendTo(long num, StringBuilder sb) {
+        if (num < 1) throw new IllegalArgumentException("num must be >= 1");
+        // base-1000 groups below the innermost one, least significant first
+        int[] groups = new int[7]; // Long.MAX_VALUE has 7 groups
+        int depth = 0;
+        while (num > 3999) {
+            groups[depth++] = (int) (num % 1000);
+            num /= 1000;
+        }
+        for (int i = 0; i < depth; i++) sb.append('(');
+        plain.appendTo((int) num, sb);
+        for (int i = depth - 1; i >= 0; i--) {
+            sb.append(')');
+            if (groups[i] != 0) plain.appendTo(groups[i], sb);
+        }
+        return sb;
+    }
+}
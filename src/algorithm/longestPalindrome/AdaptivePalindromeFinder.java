@@ -0,0 +1,141 @@
+package algorithm.longestPalindrome;
+
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiFunction;
+
+/**
+ * Routes each input to expand-around-center or Manacher, whichever is expected to be faster.
+ * <p>
+ * Cost model: Manacher does ~n units of work; expand-center does ~n·r, where r is the
+ * expected expansion radius. r is estimated by actually expanding a fixed sample of evenly
+ * spaced centers, each capped at {@link #RADIUS_CAP} steps; a center that reaches the cap is
+ * counted at its largest possible radius, so periodic inputs ("abab…", "aabaab…") read as
+ * the quadratic case they are. Inputs longer than {@link #EXPAND_MAX_LENGTH} always go to
+ * Manacher, which is never worse than O(n), so a missed estimate cannot go quadratic on
+ * a large input.
+ * Each route's nanoseconds per unit are learned from observed timings with an EWMA,
+ * so the crossover point follows the actual JVM and hardware instead of a hard-coded length.
+ * <p>
+ * Inputs shorter than {@link #SHORT_INPUT} always go to expand-center and are not timed.
+ * Probes of the non-preferred route are limited to inputs up to {@link #EXPAND_MAX_LENGTH},
+ * and probes of expand-center to an estimated cost of {@code PROBE_BUDGET} units.
+ * Calls per route are counted for metrics. The learned rates are updated without locks;
+ * a lost update under contention only delays convergence.
+ */
+public final class AdaptivePalindromeFinder implements PalindromeFinder {
+
+    public enum Route { EXPAND, MANACHER }
+
+    /** Below this length expand-center always wins and timings are mostly noise. */
+    public static final int SHORT_INPUT = 64;
+
+    /** Above this length Manacher is always used; expand-center's worst case stays ~n²/4 here. */
+    public static final int EXPAND_MAX_LENGTH = 1 << 13;
+
+    private static final int SAMPLES = 16;
+    private static final int RADIUS_CAP = 64;
+    private static final double ALPHA = 0.05;
+    /** Re-time the non-preferred route on every N-th long input so its rate stays current. */
+    private static final int PROBE_EVERY = 64;
+    /** Largest estimated expand-center cost (n·r units) a probe may spend. */
+    private static final double PROBE_BUDGET = 1 << 18;
+
+    private final PalindromeFinder expand = new ExpandCenterPalindromeFinder();
+    private final PalindromeFinder manacher = new ImplicitManacherPalindromeFinder();
+
+    // learned ns per work unit; priors favour expand-center's smaller constant
+    private volatile double expandRate = 1.0;
+    private volatile double manacherRate = 4.0;
+
+    private final LongAdder expandCalls = new LongAdder();
+    private final LongAdder manacherCalls = new LongAdder();
+    private final LongAdder timedCalls = new LongAdder();
+
+    @Override
+    public PalindromeResult find(String s) {
+        return run(s, PalindromeFinder::find);
+    }
+
+    /** Routed like {@link #find(String)}, delegating to the chosen finder's copy-free view. */
+    @Override
+    public PalindromeView findView(String s) {
+        return run(s, PalindromeFinder::findView);
+    }
+
+    private <R> R run(String s, BiFunction<PalindromeFinder, String, R> call) {
+        if (s == null) throw new IllegalArgumentException("input is null");
+        int n = s.length();
+        if (n < SHORT_INPUT) {
+            expandCalls.increment();
+            return call.apply(expand, s);
+        }
+        if (n > EXPAND_MAX_LENGTH) {
+            manacherCalls.increment();
+            return call.apply(manacher, s);
+        }
+
+        double radius = expectedRadius(s);
+        Route route = choose(radius);
+        timedCalls.increment();
+        if (timedCalls.sum() % PROBE_EVERY == 0) {
+            // a probe may run the slower route, so expand is only probed within PROBE_BUDGET
+            Route other = route == Route.EXPAND ? Route.MANACHER : Route.EXPAND;
+            if (other == Route.MANACHER || n * radius <= PROBE_BUDGET) route = other;
+        }
+
+        long t0 = System.nanoTime();
+        R res = call.apply(route == Route.EXPAND ? expand : manacher, s);
+        long elapsed = System.nanoTime() - t0;
+
+        if (route == Route.EXPAND) {
+            expandCalls.increment();
+            expandRate += ALPHA * (elapsed / (n * radius) - expandRate);
+        } else {
+            manacherCalls.increment();
+            manacherRate += ALPHA * ((double) elapsed / n - manacherRate);
+        }
+        return res;
+    }
+
+    /** The route {@link #find(String)} would take for {@code s}, without running it. */
+    public Route route(String s) {
+        if (s == null) throw new IllegalArgumentException("input is null");
+        int n = s.length();
+        if (n < SHORT_INPUT) return Route.EXPAND;
+        return n > EXPAND_MAX_LENGTH ? Route.MANACHER : choose(expectedRadius(s));
+    }
+
+    /** Number of inputs served by {@code route} so far. */
+    public long calls(Route route) {
+        return route == Route.EXPAND ? expandCalls.sum() : manacherCalls.sum();
+    }
+
+    /** Current learned cost of {@code route}, in nanoseconds per work unit. */
+    public double nanosPerUnit(Route route) {
+        return route == Route.EXPAND ? expandRate : manacherRate;
+    }
+
+    private Route choose(double radius) {
+        return expandRate * radius <= manacherRate ? Route.EXPAND : Route.MANACHER;
+    }
+
+    /** Estimated mean expansion length of expand-center, in [1, n / 2]. */
+    private static double expectedRadius(String s) {
+        int n = s.length();
+        int step = Math.max(1, n / SAMPLES);
+        long total = 0;
+        int centers = 0;
+        for (int c = step / 2; c + 1 < n && centers < 2 * SAMPLES; c += step) {
+            total += sampleRadius(s, c, c) + sampleRadius(s, c, c + 1);
+            centers += 2;
+        }
+        return Math.max(1.0, (double) total / centers);
+    }
+
+    /** Expansion length around (l, r), or the distance to the nearer edge once it reaches the cap. */
+    private static int sampleRadius(String s, int l, int r) {
+        int k = 0;
+        while (k < RADIUS_CAP && l - k >= 0 && r + k < s.length() && s.charAt(l - k) == s.charAt(r + k)) k++;
+        return k < RADIUS_CAP ? k : Math.min(l, s.length() - 1 - r) + 1;
+    }
+}
@@ -0,0 +1,72 @@
+package algorithm.longestPalindrome;
+
+import java.util.List;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Fork/join task behind {@link PalindromeService#findLongestAll(List)}.
+ * <p>
+ * Ranges are split by total character weight rather than by count, so one giant
+ * string ends up alone in its leaf while thousands of short ones share a leaf.
+ * Results are written to their input index, which keeps output order.
+ */
+@SuppressWarnings("serial") // fork/join task, never serialized
+final class BatchPalindromeTask extends RecursiveAction {
+    /** Smallest leaf worth forking, in characters. */
+    static final long MIN_LEAF_WEIGHT = 1 << 14;
+
+    private final PalindromeFinder finder;
+    private final List<String> inputs;
+    private final long[] prefix; // prefix[i] = weight of inputs[0, i)
+    private final PalindromeResult[] out;
+    private final int from;
+    private final int to;
+    private final long leafWeight;
+
+    private BatchPalindromeTask(PalindromeFinder finder, List<String> inputs, long[] prefix,
+                                PalindromeResult[] out, int from, int to, long leafWeight) {
+        this.finder = finder;
+        this.inputs = inputs;
+        this.prefix = prefix;
+        this.out = out;
+        this.from = from;
+        this.to = to;
+        this.leafWeight = leafWeight;
+    }
+
+    static BatchPalindromeTask of(PalindromeFinder finder, List<String> inputs,
+                                  PalindromeResult[] out, int parallelism) {
+        long[] prefix = new long[inputs.size() + 1];
+        for (int i = 0; i < inputs.size(); i++) {
+            String s = inputs.get(i);
+            if (s == null) throw new IllegalArgumentException("input " + i + " is null");
+            prefix[i + 1] = prefix[i] + s.length() + 1; // +1: per-call overhead
+        }
+        long leaf = Math.max(MIN_LEAF_WEIGHT, prefix[inputs.size()] / (8L * parallelism));
+        return new BatchPalindromeTask(finder, inputs, prefix, out, 0, inputs.size(), leaf);
+    }
+
+    @Override
+    protected void compute() {
+        if (to - from <= 1 || prefix[to] - prefix[from] <= leafWeight) {
+            for (int i = from; i < to; i++) out[i] = finder.find(inputs.get(i));
+            return;
+        }
+        int mid = weightedMid();
+        invokeAll(new BatchPalindromeTask(finder, inputs, prefix, out, from, mid, leafWeight),
+                new BatchPalindromeTask(finder, inputs, prefix, out, mid, to, leafWeight));
+    }
+
+    /** First index whose prefix weight reaches half of [from, to); always in (from, to). */
+    private int weightedMid() {
+        long half = prefix[from] + (prefix[to] - prefix[from]) / 2;
+        int lo = from + 1;
+        int hi = to - 1;
+        while (lo < hi) {
+            int m = (lo + hi) >>> 1;
+            if (prefix[m] < half) lo = m + 1;
+            else hi = m;
+        }
+        return lo;
+    }
+}
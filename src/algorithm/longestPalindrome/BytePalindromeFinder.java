@@ -0,0 +1,22 @@
+package algorithm.longestPalindrome;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Longest palindrome over encoded bytes, without decoding to a String.
+ * Offsets and lengths in the returned {@link PalindromeSpan} are in bytes and are
+ * absolute indices into the given array or buffer.
+ */
+public interface BytePalindromeFinder {
+
+    /** Searches b[from, to). */
+    PalindromeSpan find(byte[] b, int from, int to);
+
+    default PalindromeSpan find(byte[] b) {
+        if (b == null) throw new IllegalArgumentException("input is null");
+        return find(b, 0, b.length);
+    }
+
+    /** Searches [position, limit); the buffer's position is not changed. */
+    PalindromeSpan find(ByteBuffer buf);
+}
@@ -0,0 +1,209 @@
+package algorithm.longestPalindrome;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Palindromic tree (eertree) built incrementally with {@link #append(char)}.
+ * <p>
+ * Every distinct palindromic substring is one node. Node 0 is the imaginary root
+ * of length -1, node 1 the empty palindrome; each node keeps its length, suffix link
+ * and the end index of its first occurrence. Edges live in one open-addressing table
+ * keyed by (node, char), so no per-node maps are allocated.
+ * <p>
+ * append: amortized O(1), distinct / total / longest-suffix queries: O(1),
+ * per-palindrome occurrence counts: O(nodes) once after the last append, then O(1).
+ */
+public final class Eertree {
+    private static final int IMAGINARY = 0;
+    private static final int EMPTY = 1;
+
+    private char[] text = new char[16];
+    private int size;
+
+    // node storage
+    private int[] len = new int[16];
+    private int[] link = new int[16];
+    private int[] depth = new int[16];   // nodes on the suffix-link chain, excluding roots
+    private int[] firstEnd = new int[16];
+    private int[] endCount = new int[16]; // times the node was the longest suffix palindrome
+    private int nodes;
+
+    // edge table: key = node << 16 | char, value = child (0 means empty slot)
+    private long[] edgeKeys = new long[32];
+    private int[] edgeVals = new int[32];
+    private int edges;
+
+    private int last = EMPTY;
+    private int best = EMPTY;
+    private long total;
+
+    private int[] occurrences; // lazily propagated counts, null when stale
+
+    public Eertree() {
+        len[IMAGINARY] = -1;
+        link[IMAGINARY] = IMAGINARY;
+        len[EMPTY] = 0;
+        link[EMPTY] = IMAGINARY;
+        nodes = 2;
+    }
+
+    public static Eertree of(CharSequence s) {
+        Eertree tree = new Eertree();
+        tree.append(s);
+        return tree;
+    }
+
+    public void append(CharSequence s) {
+        for (int i = 0; i < s.length(); i++) append(s.charAt(i));
+    }
+
+    public void append(char c) {
+        if (size == text.length) text = Arrays.copyOf(text, size << 1);
+        int pos = size;
+        text[size++] = c;
+        occurrences = null;
+
+        int cur = suffixFor(last, pos, c);
+        int child = edge(cur, c);
+        if (child == 0) {
+            child = newNode(len[cur] + 2, pos);
+            link[child] = len[child] == 1 ? EMPTY : edge(suffixFor(link[cur], pos, c), c);
+            depth[child] = depth[link[child]] + 1;
+            putEdge(cur, c, child);
+            if (len[child] > len[best]) best = child;
+        }
+        endCount[child]++;
+        total += depth[child];
+        last = child;
+    }
+
+    /** Number of characters appended so far. */
+    public int length() {
+        return size;
+    }
+
+    /** Length of the longest palindrome ending at the last appended character. */
+    public int longestSuffixPalindrome() {
+        return len[last];
+    }
+
+    /** Number of distinct non-empty palindromic substrings. */
+    public int distinctPalindromes() {
+        return nodes - 2;
+    }
+
+    /** Number of palindromic substrings counted with multiplicity. */
+    public long totalPalindromes() {
+        return total;
+    }
+
+    /** First occurrence of the longest palindrome appended so far. */
+    public PalindromeResult longest() {
+        if (size == 0) return PalindromeResult.empty();
+        int l = len[best];
+        int start = firstEnd[best] - l + 1;
+        return new PalindromeResult(new String(text, start, l), start, l);
+    }
+
+    /** Occurrences of {@code p} in the text, or 0 if it is not a palindromic substring. */
+    public int occurrences(CharSequence p) {
+        int n = p.length();
+        if (n == 0) return 0;
+        // walk edges from the middle outwards
+        int node = (n & 1) == 0 ? EMPTY : IMAGINARY;
+        for (int i = (n - 1) / 2; i >= 0; i--) {
+            char c = p.charAt(i);
+            if (c != p.charAt(n - 1 - i)) return 0;
+            node = edge(node, c);
+            if (node == 0) return 0;
+        }
+        return occurrenceCounts()[node];
+    }
+
+    /** Every distinct palindrome mapped to its occurrence count, in order of first appearance. */
+    public Map<String, Integer> occurrenceMap() {
+        int[] occ = occurrenceCounts();
+        Map<String, Integer> out = new LinkedHashMap<>();
+        for (int v = 2; v < nodes; v++) {
+            out.put(new String(text, firstEnd[v] - len[v] + 1, len[v]), occ[v]);
+        }
+        return out;
+    }
+
+    /* ======================= Internals ======================= */
+
+    /** Walks suffix links from {@code v} to the first palindrome that can be extended by c at pos. */
+    private int suffixFor(int v, int pos, char c) {
+        while (true) {
+            int before = pos - 1 - len[v];
+            if (before >= 0 && text[before] == c) return v; // IMAGINARY (len -1) always stops here
+            v = link[v];
+        }
+    }
+
+    private int[] occurrenceCounts() {
+        if (occurrences != null) return occurrences;
+        int[] occ = Arrays.copyOf(endCount, nodes);
+        // links always point to older nodes, so one reverse sweep propagates everything
+        for (int v = nodes - 1; v >= 2; v--) occ[link[v]] += occ[v];
+        occurrences = occ;
+        return occ;
+    }
+
+    private int newNode(int length, int end) {
+        if (nodes == len.length) {
+            int cap = nodes << 1;
+            len = Arrays.copyOf(len, cap);
+            link = Arrays.copyOf(link, cap);
+            depth = Arrays.copyOf(depth, cap);
+            firstEnd = Arrays.copyOf(firstEnd, cap);
+            endCount = Arrays.copyOf(endCount, cap);
+        }
+        int v = nodes++;
+        len[v] = length;
+        firstEnd[v] = end;
+        return v;
+    }
+
+    private int edge(int node, char c) {
+        long key = ((long) node << 16) | c;
+        int mask = edgeKeys.length - 1;
+        for (int i = slot(key, mask); ; i = (i + 1) & mask) {
+            if (edgeVals[i] == 0) return 0;
+            if (edgeKeys[i] == key) return edgeVals[i];
+        }
+    }
+
+    private void putEdge(int node, char c, int child) {
+        if ((edges + 1) * 2 > edgeKeys.length) rehash();
+        long key = ((long) node << 16) | c;
+        int mask = edgeKeys.length - 1;
+        int i = slot(key, mask);
+        while (edgeVals[i] != 0) i = (i + 1) & mask;
+        edgeKeys[i] = key;
+        edgeVals[i] = child;
+        edges++;
+    }
+
+    private void rehash() {
+        long[] oldKeys = edgeKeys;
+        int[] oldVals = edgeVals;
+        edgeKeys = new long[oldKeys.length << 1];
+        edgeVals = new int[oldVals.length << 1];
+        int mask = edgeKeys.length - 1;
+        for (int j = 0; j < oldKeys.length; j++) {
+            if (oldVals[j] == 0) continue;
+            int i = slot(oldKeys[j], mask);
+            while (edgeVals[i] != 0) i = (i + 1) & mask;
+            edgeKeys[i] = oldKeys[j];
+            edgeVals[i] = oldVals[j];
+        }
+    }
+
+    private static int slot(long key, int mask) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h >>> 32) & mask;
+    }
+}
@@ -0,0 +1,16 @@
+package algorithm.longestPalindrome;
+
+/**
+ * Longest palindrome via a one-shot {@link Eertree}.
+ * Slower than Manacher for this single query; useful when the tree is also
+ * needed for distinct / occurrence statistics.
+ */
+public final class EertreePalindromeFinder implements PalindromeFinder {
+
+    @Override
+    public PalindromeResult find(String s) {
+        if (s == null) throw new IllegalArgumentException("input is null");
+        if (s.length() < 2) return new PalindromeResult(s, 0, s.length());
+        return Eertree.of(s).longest();
+    }
+}
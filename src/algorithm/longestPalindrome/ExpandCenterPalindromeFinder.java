@@ -5,9 +5,26 @@ public final class ExpandCenterPalindromeFinder implements PalindromeFinder {
     @Override
     public PalindromeResult find(String s) {
         if (s == null) throw new IllegalArgumentException("input is null");
-        int n = s.length();
-        if (n < 2) return new PalindromeResult(s, 0, n);
+        if (s.length() < 2) return new PalindromeResult(s, 0, s.length());
+
+        long best = locate(s);
+        int start = (int) (best >>> 32);
+        int len = (int) best;
+        return new PalindromeResult(s.substring(start, start + len), start, len);
+    }
 
+    @Override
+    public PalindromeView findView(String s) {
+        if (s == null) throw new IllegalArgumentException("input is null");
+        if (s.length() < 2) return new PalindromeView(s, 0, s.length());
+
+        long best = locate(s);
+        return new PalindromeView(s, (int) (best >>> 32), (int) best);
+    }
+
+    /** Returns (start << 32) | length of the first longest palindrome. */
+    private long locate(String s) {
+        int n = s.length();
         int bestStart = 0;
         int bestEnd = 0;
 
@@ -21,8 +38,7 @@ public final class ExpandCenterPalindromeFinder implements PalindromeFinder {
                 bestEnd = i + len / 2;
             }
         }
-        String val = s.substring(bestStart, bestEnd + 1);
-        return new PalindromeResult(val, bestStart, val.length());
+        return ((long) bestStart << 32) | (bestEnd - bestStart + 1);
     }
 
     private int expand(String s, int l, int r) {
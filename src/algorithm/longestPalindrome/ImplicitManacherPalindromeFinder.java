@@ -0,0 +1,63 @@
+package algorithm.longestPalindrome;
+
+/**
+ * Manacher without the transformed copy.
+ * <p>
+ * Positions are virtual: for an input of length n there are 2n+1 slots,
+ * even slots are the '#' separators, odd slot 2j+1 is the j-th input char.
+ * Separators always match each other, so only odd slots are compared.
+ * The radius array comes from {@link ManacherWorkspace}, so in steady state
+ * the only allocations are the result and its substring.
+ * <p>
+ * Time: O(n), Space: O(n) reused per thread
+ */
+public final class ImplicitManacherPalindromeFinder implements PalindromeFinder {
+
+    @Override
+    public PalindromeResult find(String s) {
+        if (s == null) throw new IllegalArgumentException("input is null");
+        int n = s.length();
+        if (n < 2) return new PalindromeResult(s, 0, n);
+
+        long best = scan(s, n, ManacherWorkspace.current().radii(2 * n + 1));
+        int start = start(best);
+        int len = length(best);
+        return new PalindromeResult(s.substring(start, start + len), start, len);
+    }
+
+    @Override
+    public PalindromeView findView(String s) {
+        if (s == null) throw new IllegalArgumentException("input is null");
+        int n = s.length();
+        if (n < 2) return new PalindromeView(s, 0, n);
+
+        long best = scan(s, n, ManacherWorkspace.current().radii(2 * n + 1));
+        return new PalindromeView(s, start(best), length(best));
+    }
+
+    public PalindromeResult find(char[] s) {
+        if (s == null) throw new IllegalArgumentException("input is null");
+        int n = s.length;
+        if (n < 2) return new PalindromeResult(new String(s), 0, n);
+
+        long best = ManacherKernel.scan(s, n, ManacherWorkspace.current().radii(2 * n + 1));
+        int start = start(best);
+        int len = length(best);
+        return new PalindromeResult(new String(s, start, len), start, len);
+    }
+
+    /* ======================= Core scan ======================= */
+
+    /** Fills p[0, 2n+1) with radii; see {@link ManacherKernel}. */
+    static long scan(String s, int n, int[] p) {
+        return ManacherKernel.scan(s, n, p);
+    }
+
+    private static int start(long packed) {
+        return (int) (packed >>> 32);
+    }
+
+    private static int length(long packed) {
+        return (int) packed;
+    }
+}
@@ -0,0 +1,41 @@
+package algorithm.longestPalindrome;
+
+import java.nio.ByteBuffer;
+
+/**
+ * One byte = one character (ISO-8859-1, or ASCII). Heap arrays and direct or mapped
+ * buffers are both scanned in place; only the radii live in per-thread scratch.
+ * <p>
+ * Time: O(n), Space: O(n) reused per thread
+ */
+public final class Latin1PalindromeFinder implements BytePalindromeFinder {
+
+    @Override
+    public PalindromeSpan find(byte[] b, int from, int to) {
+        if (b == null) throw new IllegalArgumentException("input is null");
+        if (from < 0 || to > b.length || from > to) {
+            throw new IndexOutOfBoundsException("range [" + from + ", " + to + ") out of [0, " + b.length + ")");
+        }
+        int n = to - from;
+        if (n < 2) return new PalindromeSpan(from, n);
+
+        long best = ManacherKernel.scan(b, from, n, ManacherWorkspace.current().radii(2 * n + 1));
+        return new PalindromeSpan(from + (int) (best >>> 32), (int) best);
+    }
+
+    @Override
+    public PalindromeSpan find(ByteBuffer buf) {
+        if (buf == null) throw new IllegalArgumentException("input is null");
+        int pos = buf.position();
+        if (buf.hasArray()) {
+            int base = buf.arrayOffset();
+            PalindromeSpan span = find(buf.array(), base + pos, base + buf.limit());
+            return new PalindromeSpan(span.offset() - base, span.length());
+        }
+
+        int n = buf.remaining();
+        if (n < 2) return new PalindromeSpan(pos, n);
+        long best = ManacherKernel.scan(buf, pos, n, ManacherWorkspace.current().radii(2 * n + 1));
+        return new PalindromeSpan(pos + (int) (best >>> 32), (int) best);
+    }
+}
@@ -1,5 +1,7 @@
 package algorithm.longestPalindrome;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Locale;
@@ -15,10 +17,11 @@ import java.util.Scanner;
  * Examples:
  * java longestPalindrome.Main --algo=manacher babad cbbd
  * java longestPalindrome.Main --cases
+ * java longestPalindrome.Main --file=dump.txt   (streams the file, reports offset/len)
  * java longestPalindrome.Main          (interactive mode)
  * <p>
  * Interactive commands:
- * :algo manacher     or    :algo expand
+ * :algo manacher | implicit | parallel | adaptive | eertree | expand
  * :cases             run sample cases
  * :meta on|off       toggle metadata (start,len,time)
  * :help              help
@@ -29,6 +32,7 @@ public final class Main {
     private static PalindromeService service = PalindromeService.manacherDefault();
     private static String currentAlgo = "manacher";
     private static boolean showMeta = true;
+    private static AdaptivePalindromeFinder adaptive; // set while :algo adaptive is active
 
     public static void main(String[] args) {
         if (args != null && args.length > 0) {
@@ -39,6 +43,9 @@ public final class Main {
                 } else if (a.equals("--cases")) {
                     runCases();
                     return;
+                } else if (a.startsWith("--file=")) {
+                    runFile(a.substring("--file=".length()));
+                    return;
                 }
             }
             // treat non-flag args as input strings
@@ -87,7 +94,7 @@ public final class Main {
             if (line.startsWith(":algo")) {
                 String[] parts = line.split("\\s+");
                 if (parts.length == 2) switchAlgo(parts[1]);
-                else System.out.println("usage: :algo manacher|expand");
+                else System.out.println("usage: :algo manacher|implicit|parallel|adaptive|eertree|expand");
                 continue;
             }
 
@@ -100,6 +107,7 @@ public final class Main {
     /* ======================= Core execution ======================= */
 
     private static void runOnce(String s) {
+        long expandBefore = adaptive == null ? 0 : adaptive.calls(AdaptivePalindromeFinder.Route.EXPAND);
         long t0 = System.nanoTime();
         PalindromeResult res = service.findLongest(s);
         long t1 = System.nanoTime();
@@ -110,28 +118,75 @@ public final class Main {
         // optional metadata
         if (showMeta) {
             double ms = (t1 - t0) / 1_000_000.0;
+            String algo = currentAlgo;
+            if (adaptive != null) {
+                boolean expanded = adaptive.calls(AdaptivePalindromeFinder.Route.EXPAND) > expandBefore;
+                algo += expanded ? "/expand" : "/manacher";
+            }
             System.out.printf(Locale.US,
                     "[algo=%s] start=%d, len=%d, time=%.3f ms%n",
-                    currentAlgo, res.start(), res.length(), ms);
+                    algo, res.start(), res.length(), ms);
         }
     }
 
+    private static void runFile(String path) {
+        long t0 = System.nanoTime();
+        PalindromeSpan span;
+        try {
+            span = new StreamingPalindromeFinder().find(Path.of(path));
+        } catch (IOException e) {
+            System.out.println("cannot read " + path + ": " + e.getMessage());
+            return;
+        }
+        long t1 = System.nanoTime();
+
+        System.out.printf(Locale.US,
+                "[algo=streaming] offset=%d, len=%d, time=%.3f ms%n",
+                span.offset(), span.length(), (t1 - t0) / 1_000_000.0);
+    }
+
     /* ======================= Algorithm switching ======================= */
 
     private static void switchAlgo(String name) {
         String n = name.toLowerCase(Locale.ROOT);
         switch (n) {
             case "manacher", "m" -> {
+                adaptive = null;
                 service = PalindromeService.manacherDefault();
                 currentAlgo = "manacher";
                 System.out.println("✔ algorithm: Manacher (O(n))");
             }
+            case "implicit", "i" -> {
+                adaptive = null;
+                service = PalindromeService.implicitManacher();
+                currentAlgo = "implicit";
+                System.out.println("✔ algorithm: Manacher, implicit separators (O(n), reused scratch)");
+            }
+            case "parallel", "p" -> {
+                adaptive = null;
+                service = PalindromeService.parallelManacher();
+                currentAlgo = "parallel";
+                System.out.println("✔ algorithm: Manacher, fork/join segments (O(n/p))");
+            }
+            case "adaptive", "a" -> {
+                adaptive = new AdaptivePalindromeFinder();
+                service = new PalindromeService(adaptive);
+                currentAlgo = "adaptive";
+                System.out.println("✔ algorithm: Adaptive (expand or Manacher per input)");
+            }
+            case "eertree", "tree", "t" -> {
+                adaptive = null;
+                service = PalindromeService.eertree();
+                currentAlgo = "eertree";
+                System.out.println("✔ algorithm: Palindromic tree (O(n) amortized)");
+            }
             case "expand", "expandcenter", "e" -> {
+                adaptive = null;
                 service = PalindromeService.expandCenter();
                 currentAlgo = "expand";
                 System.out.println("✔ algorithm: Expand-Around-Center (O(n^2), O(1))");
             }
-            default -> System.out.println("unknown algo: " + name + " (use: manacher|expand)");
+            default -> System.out.println("unknown algo: " + name + " (use: manacher|implicit|parallel|adaptive|eertree|expand)");
         }
     }
 
@@ -155,6 +210,34 @@ public final class Main {
             runOnce(s);
             System.out.println("---");
         }
+        runUtf8Cases();
+    }
+
+    /** Byte-level cases for {@link Utf8PalindromeFinder}, including malformed sequences. */
+    private static void runUtf8Cases() {
+        System.out.println("UTF-8 byte cases:");
+        Utf8PalindromeFinder utf8 = new Utf8PalindromeFinder();
+        Object[][] cases = {
+                // bytes, expected offset, expected length
+                {bytes('a', 0xC3, 0xA9, 'a'), 0, 4},              // "aéa"
+                {bytes('A', 0xE0, 0x81, 0x81), 0, 1},             // overlong: E0 needs A0..BF
+                {bytes('a', 0xED, 0xA0, 0x80, 'a'), 0, 1},        // surrogate U+D800
+                {bytes('a', 0xF4, 0x90, 0x80, 0x80, 'a'), 0, 1},  // above U+10FFFF
+                {bytes(0xFF, 0xFF), 0, 1},                        // invalid units never match
+        };
+        for (Object[] c : cases) {
+            byte[] b = (byte[]) c[0];
+            PalindromeSpan span = utf8.find(b, 0, b.length);
+            boolean ok = span.offset() == (int) c[1] && span.length() == (int) c[2];
+            System.out.printf("%s %s -> offset=%d, len=%d%n", ok ? "[ok]  " : "[FAIL]",
+                    Arrays.toString(b), span.offset(), span.length());
+        }
+    }
+
+    private static byte[] bytes(int... values) {
+        byte[] b = new byte[values.length];
+        for (int i = 0; i < values.length; i++) b[i] = (byte) values[i];
+        return b;
     }
 
     /* ======================= UI/Help ======================= */
@@ -168,6 +251,10 @@ public final class Main {
         System.out.println("""
                 commands:
                   :algo manacher       switch to Manacher (O(n))
+                  :algo implicit       switch to Manacher without transformed copy
+                  :algo parallel       switch to fork/join Manacher (huge inputs)
+                  :algo adaptive       pick expand or Manacher per input
+                  :algo eertree        switch to palindromic tree
                   :algo expand         switch to Expand-Around-Center (O(n^2))
                   :cases               run sample cases
                   :meta on|off         toggle start,len,time output
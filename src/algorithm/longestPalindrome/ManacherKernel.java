@@ -0,0 +1,75 @@
+package algorithm.longestPalindrome;
+
+import java.nio.ByteBuffer;
+
+/**
+ * The one implicit-separator Manacher loop, shared by every finder that scans symbols in place.
+ * <p>
+ * Same slot layout as {@link ImplicitManacherPalindromeFinder}: 2n+1 virtual slots, even slots
+ * are separators, slot 2j+1 is symbol j. The loop only needs to know whether two symbols are
+ * equal, so inputs plug in through a {@link SymbolMatcher}; the typed overloads below are
+ * one-line adapters. Every scan fills {@code p[0, 2n+1)} with radii and returns
+ * (start << 32) | length of the first longest palindrome, start relative to the scanned range.
+ */
+final class ManacherKernel {
+
+    /** Equality of symbols {@code a} and {@code b} (indices into the scanned range). */
+    @FunctionalInterface
+    interface SymbolMatcher {
+        boolean same(int a, int b);
+    }
+
+    private ManacherKernel() {
+    }
+
+    static long scan(String s, int n, int[] p) {
+        return scan((a, b) -> s.charAt(a) == s.charAt(b), n, p);
+    }
+
+    static long scan(char[] s, int n, int[] p) {
+        return scan((a, b) -> s[a] == s[b], n, p);
+    }
+
+    /** Scans s[off, off + n) as bytes. */
+    static long scan(byte[] s, int off, int n, int[] p) {
+        return scan((a, b) -> s[off + a] == s[off + b], n, p);
+    }
+
+    /** Scans s[off, off + n) with absolute reads; the buffer's position is not touched. */
+    static long scan(ByteBuffer s, int off, int n, int[] p) {
+        return scan((a, b) -> s.get(off + a) == s.get(off + b), n, p);
+    }
+
+    /** Scans s[0, n) as symbols (code points). */
+    static long scan(int[] s, int n, int[] p) {
+        return scan((a, b) -> s[a] == s[b], n, p);
+    }
+
+    static long scan(SymbolMatcher s, int n, int[] p) {
+        int m = 2 * n + 1;
+        int center = 0;
+        int right = 0;
+        int bestLen = 0;
+        int bestCenter = 0;
+
+        for (int i = 0; i < m; i++) {
+            int k = i < right ? Math.min(right - i, p[2 * center - i]) : 0;
+            while (i - k > 0 && i + k < m - 1) {
+                int l = i - k - 1;
+                if ((l & 1) != 0 && !s.same(l >> 1, (i + k + 1) >> 1)) break;
+                k++;
+            }
+            p[i] = k;
+
+            if (i + k > right) {
+                center = i;
+                right = i + k;
+            }
+            if (k > bestLen) {
+                bestLen = k;
+                bestCenter = i;
+            }
+        }
+        return ((long) ((bestCenter - bestLen) >> 1) << 32) | bestLen;
+    }
+}
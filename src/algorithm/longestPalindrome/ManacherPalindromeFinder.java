@@ -2,6 +2,12 @@ package algorithm.longestPalindrome;
 
 import java.util.Objects;
 
+/**
+ * Classic Manacher over the preprocessor's transformed string. The radius array comes from
+ * {@link ManacherWorkspace}; with the default {@link HashPreprocessor} the transform is
+ * skipped altogether and the equivalent implicit scan ({@link ManacherKernel}) runs on
+ * {@code s} directly, so steady-state calls allocate only the result.
+ */
 public final class ManacherPalindromeFinder implements PalindromeFinder {
     private final Preprocessor preprocessor;
 
@@ -14,10 +20,32 @@ public final class ManacherPalindromeFinder implements PalindromeFinder {
         if (s == null) throw new IllegalArgumentException("input is null");
         if (s.length() < 2) return new PalindromeResult(s, 0, s.length());
 
+        long best = locate(s);
+        int start = (int) (best >>> 32);
+        int len = (int) best;
+        return new PalindromeResult(s.substring(start, start + len), start, len);
+    }
+
+    @Override
+    public PalindromeView findView(String s) {
+        if (s == null) throw new IllegalArgumentException("input is null");
+        if (s.length() < 2) return new PalindromeView(s, 0, s.length());
+
+        long best = locate(s);
+        return new PalindromeView(s, (int) (best >>> 32), (int) best);
+    }
+
+    /** Returns (start << 32) | length of the first longest palindrome. */
+    private long locate(String s) {
+        if (preprocessor.getClass() == HashPreprocessor.class) {
+            int n = s.length();
+            return ManacherKernel.scan(s, n, ManacherWorkspace.current().radii(2 * n + 1));
+        }
         char[] t = preprocessor.transform(s);
         int n = t.length;
 
-        int[] p = new int[n];
+        int[] p = ManacherWorkspace.current().radii(n);
+        p[0] = 0;
         int center = 0;
         int right = 0;
         int bestLen = 0;
@@ -26,9 +54,7 @@ public final class ManacherPalindromeFinder implements PalindromeFinder {
         for (int i = 1; i < n - 1; i++) {
             int mirror = 2 * center - i;
 
-            if (i < right) {
-                p[i] = Math.min(right - i, p[mirror]);
-            }
+            p[i] = i < right ? Math.min(right - i, p[mirror]) : 0; // reused array: always write
 
             while (t[i + (1 + p[i])] == t[i - (1 + p[i])]) {
                 p[i]++;
@@ -46,6 +72,6 @@ public final class ManacherPalindromeFinder implements PalindromeFinder {
         }
 
         int start = (bestCenter - bestLen) / 2;
-        return new PalindromeResult(s.substring(start, start + bestLen), start, bestLen);
+        return ((long) start << 32) | bestLen;
     }
 }
@@ -0,0 +1,57 @@
+package algorithm.longestPalindrome;
+
+/**
+ * Per-thread scratch arrays for Manacher-style scans.
+ * Arrays grow on demand and are kept for the next call on the same thread;
+ * very large requests get a fresh array so a single huge input does not pin memory.
+ */
+final class ManacherWorkspace {
+    /** Largest array kept between calls (4 MiB of ints). */
+    static final int MAX_RETAINED = 1 << 20;
+
+    private static final ThreadLocal<ManacherWorkspace> LOCAL =
+            ThreadLocal.withInitial(ManacherWorkspace::new);
+
+    private int[] radii = new int[64];
+    private int[] symbols = new int[32];
+    private int[] offsets = new int[32];
+
+    private ManacherWorkspace() {
+    }
+
+    static ManacherWorkspace current() {
+        return LOCAL.get();
+    }
+
+    /**
+     * Returns an array of at least {@code size} ints. Contents are unspecified;
+     * callers must write every slot they read.
+     */
+    int[] radii(int size) {
+        if (size <= radii.length) return radii;
+        int[] a = grow(radii.length, size);
+        if (size <= MAX_RETAINED) radii = a;
+        return a;
+    }
+
+    /** Decoded symbols (e.g. code points), same contract as {@link #radii(int)}. */
+    int[] symbols(int size) {
+        if (size <= symbols.length) return symbols;
+        int[] a = grow(symbols.length, size);
+        if (size <= MAX_RETAINED) symbols = a;
+        return a;
+    }
+
+    /** Source offsets of decoded symbols, same contract as {@link #radii(int)}. */
+    int[] offsets(int size) {
+        if (size <= offsets.length) return offsets;
+        int[] a = grow(offsets.length, size);
+        if (size <= MAX_RETAINED) offsets = a;
+        return a;
+    }
+
+    private static int[] grow(int current, int size) {
+        if (size > MAX_RETAINED) return new int[size];
+        return new int[Math.max(size, Math.min(MAX_RETAINED, current << 1))];
+    }
+}
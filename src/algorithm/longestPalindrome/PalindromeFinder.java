@@ -3,4 +3,13 @@ package algorithm.longestPalindrome;
 
 public interface PalindromeFinder {
     PalindromeResult find(String s);
-}
\ No newline at end of file
+
+    /**
+     * Same search as {@link #find(String)} but returns a view over {@code s}
+     * instead of a copied substring. Finders that can skip the copy override this.
+     */
+    default PalindromeView findView(String s) {
+        PalindromeResult r = find(s);
+        return new PalindromeView(s, r.start(), r.length());
+    }
+}
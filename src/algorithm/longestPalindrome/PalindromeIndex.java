@@ -0,0 +1,106 @@
+package algorithm.longestPalindrome;
+
+/**
+ * Range queries over one string, built from its Manacher radii.
+ * <p>
+ * Radii are kept over the 2n+1 virtual slots of {@link ImplicitManacherPalindromeFinder}
+ * (even slot = separator, slot 2j+1 = char j), so [from, to) is centered on slot from+to.
+ * A sparse table of arg-max radii answers "longest palindrome inside a range" by
+ * binary searching the length: a length L fits iff some center in
+ * [2·from + L, 2·to - L] has radius >= L.
+ * <p>
+ * Ranges are half-open, like {@link String#substring(int, int)}.
+ * Build: O(n log n), isPalindrome: O(1), longestWithin: O(log n), Space: O(n log n)
+ */
+public final class PalindromeIndex {
+    private final String s;
+    private final int[] radii;
+    private final int[][] argMax; // argMax[k][i] = slot of max radius in [i, i + 2^(k+1))
+
+    private PalindromeIndex(String s) {
+        this.s = s;
+        int m = 2 * s.length() + 1;
+        this.radii = new int[m];
+        ImplicitManacherPalindromeFinder.scan(s, s.length(), radii);
+
+        int levels = 31 - Integer.numberOfLeadingZeros(m);
+        this.argMax = new int[levels][];
+        for (int k = 0; k < levels; k++) {
+            int half = 1 << k;
+            int[] row = new int[m - (half << 1) + 1];
+            for (int i = 0; i < row.length; i++) {
+                int a = k == 0 ? i : argMax[k - 1][i];
+                int b = k == 0 ? i + 1 : argMax[k - 1][i + half];
+                row[i] = radii[b] > radii[a] ? b : a;
+            }
+            argMax[k] = row;
+        }
+    }
+
+    public static PalindromeIndex of(String s) {
+        if (s == null) throw new IllegalArgumentException("input is null");
+        return new PalindromeIndex(s);
+    }
+
+    public int length() {
+        return s.length();
+    }
+
+    /** True iff s[from, to) reads the same both ways; the empty range counts as a palindrome. */
+    public boolean isPalindrome(int from, int to) {
+        checkRange(from, to);
+        return radii[from + to] >= to - from;
+    }
+
+    /** Length of the longest palindrome entirely inside s[from, to). */
+    public int longestLengthWithin(int from, int to) {
+        checkRange(from, to);
+        return (int) (bestWithin(from, to) >>> 32);
+    }
+
+    /** A longest palindrome entirely inside s[from, to), with start relative to the whole string. */
+    public PalindromeResult longestWithin(int from, int to) {
+        checkRange(from, to);
+        long best = bestWithin(from, to);
+        int len = (int) (best >>> 32);
+        int start = ((int) best - len) >> 1;
+        return new PalindromeResult(s.substring(start, start + len), start, len);
+    }
+
+    /** Returns (length << 32) | center slot. */
+    private long bestWithin(int from, int to) {
+        if (to == from) return (long) (2 * from);
+        // f(L) is monotone: a center that fits L also fits L - 1
+        int lo = 1;           // always fits: any single char
+        int hi = to - from;
+        int loCenter = 2 * from + 1;
+        while (lo < hi) {
+            int mid = (lo + hi + 1) >>> 1;
+            int c = argMaxSlot(2 * from + mid, 2 * to - mid);
+            if (radii[c] >= mid) {
+                lo = mid;
+                loCenter = c;
+            } else {
+                hi = mid - 1;
+            }
+        }
+        return ((long) lo << 32) | loCenter;
+    }
+
+    /** Slot with the largest radius in [a, b], inclusive. */
+    private int argMaxSlot(int a, int b) {
+        int span = b - a + 1;
+        if (span == 1) return a;
+        int k = 31 - Integer.numberOfLeadingZeros(span); // 2^k <= span, k >= 1
+        int[] row = argMax[k - 1];
+        int x = row[a];
+        int y = row[b - (1 << k) + 1];
+        return radii[y] > radii[x] ? y : x;
+    }
+
+    private void checkRange(int from, int to) {
+        if (from < 0 || to > s.length() || from > to) {
+            throw new IndexOutOfBoundsException("range [" + from + ", " + to + ") out of [0, " + s.length() + ")");
+        }
+    }
+}
@@ -1,26 +1,82 @@
 package algorithm.longestPalindrome;
 
+import algorithm.common.StrategyHolder;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
 
+/** Thread-safe: the finder can be swapped while other threads are calling. */
 public final class PalindromeService {
-    private PalindromeFinder finder;
+    private final StrategyHolder<PalindromeFinder> finder;
 
     public PalindromeService(PalindromeFinder finder) {
-        this.finder = Objects.requireNonNull(finder, "finder");
+        this.finder = new StrategyHolder<>(finder);
     }
 
     public PalindromeResult findLongest(String s) {
-        return finder.find(s);
+        return finder.acquire().find(s);
+    }
+
+    /** Like {@link #findLongest(String)} but without copying the palindrome out of {@code s}. */
+    public PalindromeView findLongestView(String s) {
+        return finder.acquire().findView(s);
+    }
+
+    /**
+     * Longest palindrome of every input, in input order, computed on the common pool.
+     * The finder must be thread-safe (all finders in this package are); the Manacher
+     * finders reuse their scratch arrays per worker thread.
+     */
+    public List<PalindromeResult> findLongestAll(List<String> inputs) {
+        return findLongestAll(inputs, ForkJoinPool.commonPool());
+    }
+
+    public List<PalindromeResult> findLongestAll(Stream<String> inputs) {
+        return findLongestAll(inputs.toList(), ForkJoinPool.commonPool());
+    }
+
+    public List<PalindromeResult> findLongestAll(List<String> inputs, ForkJoinPool pool) {
+        Objects.requireNonNull(inputs, "inputs");
+        Objects.requireNonNull(pool, "pool");
+        PalindromeResult[] out = new PalindromeResult[inputs.size()];
+        // the whole batch runs on one finder, even if it is swapped meanwhile
+        pool.invoke(BatchPalindromeTask.of(finder.acquire(), inputs, out, pool.getParallelism()));
+        return Arrays.asList(out);
     }
 
     public void setFinder(PalindromeFinder finder) {
-        this.finder = Objects.requireNonNull(finder, "finder");
+        this.finder.set(finder);
+    }
+
+    /** Calls served per finder class since this service was created; a batch counts as one call. */
+    public Map<Class<?>, Long> callCountsByClass() {
+        return finder.callCountsByClass();
     }
 
     public static PalindromeService manacherDefault() {
         return new PalindromeService(new ManacherPalindromeFinder(new HashPreprocessor()));
     }
 
+    public static PalindromeService implicitManacher() {
+        return new PalindromeService(new ImplicitManacherPalindromeFinder());
+    }
+
+    public static PalindromeService parallelManacher() {
+        return new PalindromeService(new ParallelManacherPalindromeFinder());
+    }
+
+    public static PalindromeService adaptive() {
+        return new PalindromeService(new AdaptivePalindromeFinder());
+    }
+
+    public static PalindromeService eertree() {
+        return new PalindromeService(new EertreePalindromeFinder());
+    }
+
     public static PalindromeService expandCenter() {
         return new PalindromeService(new ExpandCenterPalindromeFinder());
     }
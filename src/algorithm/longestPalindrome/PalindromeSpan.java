@@ -0,0 +1,8 @@
+package algorithm.longestPalindrome;
+
+/** Location of a palindrome inside a stream: byte offset from the start and length in bytes. */
+public record PalindromeSpan(long offset, int length) {
+    public static PalindromeSpan empty() {
+        return new PalindromeSpan(0, 0);
+    }
+}
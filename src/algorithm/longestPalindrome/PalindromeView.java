@@ -0,0 +1,59 @@
+package algorithm.longestPalindrome;
+
+import java.util.Objects;
+
+/**
+ * Zero-copy palindrome result: a {@link CharSequence} window over the searched input.
+ * No characters are copied until {@link #toString()} (cached) or {@link #toResult()} is called.
+ * The view keeps the whole source reachable, so materialize it before storing long-term.
+ */
+public final class PalindromeView implements CharSequence {
+    private final CharSequence source;
+    private final int start;
+    private final int length;
+    private String value;
+
+    public PalindromeView(CharSequence source, int start, int length) {
+        this.source = Objects.requireNonNull(source, "source");
+        Objects.checkFromIndexSize(start, length, source.length());
+        this.start = start;
+        this.length = length;
+    }
+
+    public static PalindromeView empty() {
+        return new PalindromeView("", 0, 0);
+    }
+
+    /** Offset of the palindrome in the searched input. */
+    public int start() {
+        return start;
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public char charAt(int index) {
+        Objects.checkIndex(index, length);
+        return source.charAt(start + index);
+    }
+
+    @Override
+    public CharSequence subSequence(int from, int to) {
+        Objects.checkFromToIndex(from, to, length);
+        return new PalindromeView(source, start + from, to - from);
+    }
+
+    /** Materializes (once) and returns the palindrome text. */
+    @Override
+    public String toString() {
+        if (value == null) value = source.subSequence(start, start + length).toString();
+        return value;
+    }
+
+    public PalindromeResult toResult() {
+        return new PalindromeResult(toString(), start, length);
+    }
+}
@@ -0,0 +1,193 @@
+package algorithm.longestPalindrome;
+
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Fork/join Manacher for very long single strings.
+ * <p>
+ * Centers of the virtual transformed string (2n+1 slots, see
+ * {@link ImplicitManacherPalindromeFinder}) are split into segments, and each segment
+ * runs Manacher over its own centers with expansion reading the whole input, so
+ * palindromes crossing segment boundaries get their true radius. Radii go into one shared
+ * array, each segment writing only its own range. In this parallel pass the (center, right)
+ * box is only moved by palindromes that start inside the segment, since the radii left of
+ * the segment may not be computed yet.
+ * <p>
+ * What breaks this is a palindrome centered in a segment that reaches back over its start:
+ * it cannot move the box, so every center under it expands from scratch. A run of a few
+ * thousand equal chars (or any long periodic palindromic stretch) crossing a segment boundary
+ * is enough. A segment therefore gives up as soon as a palindrome reaches more than
+ * {@value #MAX_REACH_BACK} slots back over its start, or when it exceeds a comparison budget
+ * of 3·len + 16 (a guard for anything else). Only those segments are then rescanned, left to right after the parallel
+ * pass, as plain Manacher continuing from the box and radii of everything to their left,
+ * which is linear again. Results always match {@link ManacherPalindromeFinder}.
+ * <p>
+ * Time: O(n/p) on typical input, O(n) worst case; Space: O(n)
+ */
+public final class ParallelManacherPalindromeFinder implements PalindromeFinder {
+    /** Minimum transformed slots per segment; shorter inputs run sequentially. */
+    public static final int DEFAULT_MIN_SEGMENT = 1 << 16;
+
+    private static final long ABORTED = -1L;
+    /** A palindrome reaching this many slots back over its segment's start triggers a repair. */
+    private static final int MAX_REACH_BACK = 1 << 10;
+
+    private final ForkJoinPool pool;
+    private final int minSegment;
+    private final ImplicitManacherPalindromeFinder sequential = new ImplicitManacherPalindromeFinder();
+
+    public ParallelManacherPalindromeFinder() {
+        this(ForkJoinPool.commonPool(), DEFAULT_MIN_SEGMENT);
+    }
+
+    public ParallelManacherPalindromeFinder(ForkJoinPool pool, int minSegment) {
+        if (minSegment < 1) throw new IllegalArgumentException("minSegment must be >= 1");
+        this.pool = Objects.requireNonNull(pool, "pool");
+        this.minSegment = minSegment;
+    }
+
+    @Override
+    public PalindromeResult find(String s) {
+        if (s == null) throw new IllegalArgumentException("input is null");
+        int n = s.length();
+        int m = 2 * n + 1;
+        if (m < 2 * minSegment) return sequential.find(s);
+
+        long best = locate(s, m);
+
+        int len = (int) (best >>> 32);
+        int start = (Integer.MAX_VALUE - (int) best - len) >> 1;
+        return new PalindromeResult(s.substring(start, start + len), start, len);
+    }
+
+    @Override
+    public PalindromeView findView(String s) {
+        if (s == null) throw new IllegalArgumentException("input is null");
+        int n = s.length();
+        int m = 2 * n + 1;
+        if (m < 2 * minSegment) return sequential.findView(s);
+
+        long best = locate(s, m);
+
+        int len = (int) (best >>> 32);
+        int start = (Integer.MAX_VALUE - (int) best - len) >> 1;
+        return new PalindromeView(s, start, len);
+    }
+
+    private long locate(String s, int m) {
+        int segment = Math.max(minSegment, m / (pool.getParallelism() * 4));
+        int count = (int) ((m + (long) segment - 1) / segment);
+        int[] p = new int[m];
+        long[] best = new long[count];
+        long[] reach = new long[count];
+        pool.invoke(new SegmentTask(s, p, segment, best, reach, 0, count));
+
+        // repair aborted segments left to right; everything left of them is final by then
+        long box = 0; // (right << 32) | center of the furthest-reaching palindrome so far
+        long result = 0;
+        for (int k = 0; k < count; k++) {
+            if (best[k] == ABORTED) {
+                int from = k * segment;
+                int to = (int) Math.min(m, (long) from + segment);
+                scanSegment(s, p, from, to, (int) box, (int) (box >>> 32), false, best, reach, k);
+            }
+            box = Math.max(box, reach[k]);
+            result = Math.max(result, best[k]);
+        }
+        return result;
+    }
+
+    /**
+     * Fills p[from, to) and stores in {@code best[k]} the best palindrome with center in
+     * [from, to), packed as (len << 32) | (MAX - center) so that the larger value has the
+     * longer length, then the earlier center, and in {@code reach[k]} the furthest-reaching
+     * one as (right << 32) | center.
+     * <p>
+     * Restricted (parallel pass): the box starts empty and only palindromes starting at or
+     * after {@code from} move it; stores {@link #ABORTED} on a long reach-back or once the
+     * comparison budget is spent.
+     * Unrestricted (repair): continues from the given box over final radii, no budget.
+     */
+    private static void scanSegment(String s, int[] p, int from, int to, int center, int right,
+                                    boolean restricted, long[] best, long[] reach, int seg) {
+        int m = 2 * s.length() + 1;
+        long budget = restricted ? 3L * (to - from) + 16 : Long.MAX_VALUE;
+        int bestLen = -1;
+        int bestCenter = from;
+        int reachCenter = from;
+        int reachRight = from;
+
+        for (int i = from; i < to; i++) {
+            int k = i < right ? Math.min(right - i, p[2 * center - i]) : 0;
+            while (i - k > 0 && i + k < m - 1) {
+                int l = i - k - 1;
+                if ((l & 1) != 0) {
+                    if (--budget < 0) {
+                        best[seg] = ABORTED;
+                        return;
+                    }
+                    if (s.charAt(l >> 1) != s.charAt((i + k + 1) >> 1)) break;
+                }
+                k++;
+            }
+            p[i] = k;
+            if (restricted && i - k < from - MAX_REACH_BACK) {
+                best[seg] = ABORTED; // the box is stuck behind this one: cheaper to repair now
+                return;
+            }
+
+            if (i + k > right && (!restricted || i - k >= from)) {
+                center = i;
+                right = i + k;
+            }
+            if (i + k > reachRight) {
+                reachCenter = i;
+                reachRight = i + k;
+            }
+            if (k > bestLen) {
+                bestLen = k;
+                bestCenter = i;
+            }
+        }
+        best[seg] = ((long) bestLen << 32) | (Integer.MAX_VALUE - bestCenter);
+        reach[seg] = ((long) reachRight << 32) | reachCenter;
+    }
+
+    @SuppressWarnings("serial") // fork/join task, never serialized
+    private static final class SegmentTask extends RecursiveAction {
+        private final String s;
+        private final int[] p;
+        private final int segment;
+        private final long[] best;
+        private final long[] reach;
+        private final int lo;
+        private final int hi;
+
+        SegmentTask(String s, int[] p, int segment, long[] best, long[] reach, int lo, int hi) {
+            this.s = s;
+            this.p = p;
+            this.segment = segment;
+            this.best = best;
+            this.reach = reach;
+            this.lo = lo;
+            this.hi = hi;
+        }
+
+        @Override
+        protected void compute() {
+            if (hi - lo == 1) {
+                int from = lo * segment;
+                int to = (int) Math.min(p.length, (long) from + segment);
+                scanSegment(s, p, from, to, from, from, true, best, reach, lo);
+                return;
+            }
+            int mid = (lo + hi) >>> 1;
+            SegmentTask left = new SegmentTask(s, p, segment, best, reach, lo, mid);
+            left.fork();
+            new SegmentTask(s, p, segment, best, reach, mid, hi).compute();
+            left.join();
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package algorithm.longestPalindrome;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Longest palindrome over a byte stream of any size.
+ * <p>
+ * The stream is read in chunks into a fixed window of {@code maxLength + chunkSize} bytes.
+ * Each window keeps the last {@code maxLength} bytes of the previous one, so every
+ * palindrome up to {@code maxLength} bytes lies wholly inside some window and is found
+ * by a Manacher pass (implicit separators) over that window.
+ * <p>
+ * The answer is exact whenever the longest palindrome is at most {@code maxLength} bytes.
+ * If it is longer, a palindrome of at least {@code maxLength - 1} bytes is reported.
+ * Bytes are compared as raw values (no charset decoding).
+ * <p>
+ * Time: O(N · (1 + maxLength/chunkSize)), Space: O(maxLength + chunkSize), independent of N
+ */
+public final class StreamingPalindromeFinder {
+    public static final int DEFAULT_MAX_LENGTH = 1 << 16;
+    public static final int DEFAULT_CHUNK_SIZE = 1 << 20;
+
+    private final int maxLength;
+    private final int chunkSize;
+
+    public StreamingPalindromeFinder() {
+        this(DEFAULT_MAX_LENGTH, DEFAULT_CHUNK_SIZE);
+    }
+
+    public StreamingPalindromeFinder(int maxLength, int chunkSize) {
+        if (maxLength < 1) throw new IllegalArgumentException("maxLength must be >= 1");
+        if (chunkSize < 1) throw new IllegalArgumentException("chunkSize must be >= 1");
+        if ((long) maxLength + chunkSize > (Integer.MAX_VALUE - 1) / 2) {
+            throw new IllegalArgumentException("maxLength + chunkSize too large");
+        }
+        this.maxLength = maxLength;
+        this.chunkSize = chunkSize;
+    }
+
+    public PalindromeSpan find(Path file) throws IOException {
+        try (FileChannel ch = FileChannel.open(file, StandardOpenOption.READ)) {
+            return find(ch);
+        }
+    }
+
+    /** Reads {@code in} to the end; the channel is not closed. */
+    public PalindromeSpan find(ReadableByteChannel in) throws IOException {
+        if (in == null) throw new IllegalArgumentException("input is null");
+
+        byte[] window = new byte[maxLength + chunkSize];
+        ByteBuffer buf = ByteBuffer.wrap(window);
+        int[] radii = new int[2 * window.length + 1];
+
+        long base = 0;       // stream offset of window[0]
+        int kept = 0;        // bytes carried over from the previous window
+        long bestOffset = 0;
+        int bestLen = 0;
+        boolean eof = false;
+
+        while (!eof) {
+            buf.limit(kept + chunkSize).position(kept);
+            while (buf.hasRemaining()) {
+                if (in.read(buf) < 0) {
+                    eof = true;
+                    break;
+                }
+            }
+            int filled = buf.position();
+            if (filled == kept) break; // nothing new
+
+            long packed = ManacherKernel.scan(window, 0, filled, radii);
+            int len = (int) packed;
+            long offset = base + (int) (packed >>> 32);
+            if (len > bestLen || (len == bestLen && offset < bestOffset)) {
+                bestLen = len;
+                bestOffset = offset;
+            }
+
+            kept = Math.min(maxLength, filled);
+            System.arraycopy(window, filled - kept, window, 0, kept);
+            base += filled - kept;
+        }
+        return new PalindromeSpan(bestOffset, bestLen);
+    }
+}
@@ -0,0 +1,92 @@
+package algorithm.longestPalindrome;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Code-point palindromes over UTF-8 bytes, reported as byte offset and byte length.
+ * <p>
+ * Pure-ASCII input (checked in one pass) is scanned byte-for-byte in place. Otherwise the
+ * bytes are decoded into per-thread code-point and offset scratch arrays and Manacher runs
+ * over code points. Sequences are checked as the UTF-8 spec requires (no overlong forms,
+ * surrogates or values above U+10FFFF); each maximal invalid subpart becomes one unit that
+ * equals no other unit, so bad input never throws and never extends a palindrome.
+ * <p>
+ * Time: O(n), Space: O(n) reused per thread
+ */
+public final class Utf8PalindromeFinder implements BytePalindromeFinder {
+    private final Latin1PalindromeFinder ascii = new Latin1PalindromeFinder();
+
+    @Override
+    public PalindromeSpan find(byte[] b, int from, int to) {
+        if (b == null) throw new IllegalArgumentException("input is null");
+        if (from < 0 || to > b.length || from > to) {
+            throw new IndexOutOfBoundsException("range [" + from + ", " + to + ") out of [0, " + b.length + ")");
+        }
+        if (isAscii(b, from, to)) return ascii.find(b, from, to);
+        return scan(ByteBuffer.wrap(b), from, to);
+    }
+
+    @Override
+    public PalindromeSpan find(ByteBuffer buf) {
+        if (buf == null) throw new IllegalArgumentException("input is null");
+        if (buf.hasArray()) {
+            int base = buf.arrayOffset();
+            PalindromeSpan span = find(buf.array(), base + buf.position(), base + buf.limit());
+            return new PalindromeSpan(span.offset() - base, span.length());
+        }
+        return scan(buf, buf.position(), buf.limit());
+    }
+
+    /** Decodes [from, to) of buf (absolute indices) and runs Manacher over code points. */
+    private static PalindromeSpan scan(ByteBuffer buf, int from, int to) {
+        int n = to - from;
+        ManacherWorkspace ws = ManacherWorkspace.current();
+        int[] cps = ws.symbols(n);
+        int[] offs = ws.offsets(n + 1);
+
+        int count = 0;
+        int i = from;
+        while (i < to) {
+            offs[count] = i;
+            int b0 = buf.get(i) & 0xFF;
+            int len = b0 < 0x80 ? 1 : b0 >= 0xC2 && b0 < 0xE0 ? 2 : b0 >= 0xE0 && b0 < 0xF0 ? 3
+                    : b0 >= 0xF0 && b0 < 0xF5 ? 4 : 0;
+            // second byte ranges that rule out overlongs, surrogates and values above U+10FFFF
+            int lo = b0 == 0xE0 ? 0xA0 : b0 == 0xF0 ? 0x90 : 0x80;
+            int hi = b0 == 0xED ? 0x9F : b0 == 0xF4 ? 0x8F : 0xBF;
+            int cp = len == 1 ? b0 : b0 & (0x7F >> len);
+            int used = 1;
+            for (int j = 1; j < len; j++, used++) {
+                int bj = i + j < to ? buf.get(i + j) & 0xFF : 0;
+                if (j == 1 ? bj < lo || bj > hi : (bj & 0xC0) != 0x80) {
+                    len = 0;
+                    break;
+                }
+                cp = (cp << 6) | (bj & 0x3F);
+            }
+            if (len == 0) {
+                // malformed: the maximal invalid prefix is one unit, equal to nothing else
+                cps[count] = -1 - count;
+                count++;
+                i += used;
+            } else {
+                cps[count++] = cp;
+                i += len;
+            }
+        }
+        offs[count] = to;
+
+        if (count < 2) return new PalindromeSpan(from, n);
+        long best = ManacherKernel.scan(cps, count, ws.radii(2 * count + 1));
+        int start = (int) (best >>> 32);
+        int end = start + (int) best;
+        return new PalindromeSpan(offs[start], offs[end] - offs[start]);
+    }
+
+    private static boolean isAscii(byte[] b, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (b[i] < 0) return false;
+        }
+        return true;
+    }
+}
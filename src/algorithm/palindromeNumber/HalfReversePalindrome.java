@@ -20,4 +20,25 @@ public final class HalfReversePalindrome implements PalindromeStrategy {
         // odd length : x == reversedHalf / 10 (drop the middle digit)
         return (x == reversedHalf) || (x == reversedHalf / 10);
     }
-}
\ No newline at end of file
+
+    /**
+     * Appends the reversed digits of {@code half} to itself: 123 -> 123321, or 12321 when
+     * {@code oddLength} (the last digit of half is the middle one). Same digit loop as above.
+     *
+     * @throws ArithmeticException if the palindrome does not fit in a long
+     */
+    static long mirror(long half, boolean oddLength) {
+        return mirror(half, oddLength, 10);
+    }
+
+    /** {@link #mirror(long, boolean)} with digits in {@code base}. */
+    static long mirror(long half, boolean oddLength, int base) {
+        long p = half;
+        long t = oddLength ? half / base : half;
+        while (t > 0) {
+            p = Math.addExact(Math.multiplyExact(p, base), t % base);
+            t /= base;
+        }
+        return p;
+    }
+}
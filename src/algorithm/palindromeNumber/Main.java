@@ -3,14 +3,19 @@ package algorithm.palindromeNumber;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Locale;
+import java.util.NoSuchElementException;
+import java.util.Random;
 import java.util.Scanner;
 
 /**
  * Palindrome Number (LC#9) - Interactive Tester
  *
  * Features:
- * - Choose algorithm via command (:algo half|string)
+ * - Choose algorithm via command (:algo half|string|table)
  * - Run built-in sample cases (:cases)
+ * - Next / previous / nearest palindrome (:next 123, :prev 123, :near 123)
+ * - Count palindromes in a range (:count 1 1000000)
+ * - Time the bulk table check against the scalar loop (:bulk 10000000)
  * - Test arbitrary inputs (type integers; 'q' to quit)
  * - Clear help (:help)
  *
@@ -50,12 +55,47 @@ public final class Main {
                             String name = sc.next().toLowerCase(Locale.ROOT);
                             switchAlgo(name);
                         } else {
-                            System.out.println("Usage: :algo half | string");
+                            System.out.println("Usage: :algo half | string | table");
                         }
                         break;
                     case "cases":
                         runSampleCases();
                         break;
+                    case "next":
+                    case "prev":
+                    case "near":
+                        if (sc.hasNextLong()) {
+                            runGenerator(cmd, sc.nextLong());
+                        } else {
+                            System.out.println("Usage: :" + cmd + " <integer>");
+                            if (sc.hasNext()) sc.next();
+                        }
+                        break;
+                    case "count":
+                        if (sc.hasNextLong()) {
+                            long from = sc.nextLong();
+                            if (sc.hasNextLong()) {
+                                long to = sc.nextLong();
+                                if (from <= to) {
+                                    long n = PalindromeRangeCounter.decimal().count(from, to);
+                                    System.out.printf("palindromes in [%d, %d] = %d%n", from, to, n);
+                                } else {
+                                    System.out.println("Usage: :count <from> <to> with from <= to");
+                                }
+                                break;
+                            }
+                        }
+                        System.out.println("Usage: :count <from> <to>");
+                        if (sc.hasNext()) sc.nextLine();
+                        break;
+                    case "bulk":
+                        if (sc.hasNextInt()) {
+                            runBulk(sc.nextInt());
+                        } else {
+                            System.out.println("Usage: :bulk <n>");
+                            if (sc.hasNext()) sc.next();
+                        }
+                        break;
                     case "help":
                         printHelp();
                         break;
@@ -91,8 +131,26 @@ public final class Main {
                 currentAlgo = "string";
                 System.out.println("Switched algorithm to: string (simple)");
                 break;
+            case "table":
+                service.setStrategy(new TableBulkPalindrome());
+                currentAlgo = "table";
+                System.out.println("Switched algorithm to: table (digit-table, branch-light)");
+                break;
             default:
-                System.out.println("Unknown algo. Use: half | string");
+                System.out.println("Unknown algo. Use: half | string | table");
+        }
+    }
+
+    private static void runGenerator(String cmd, long x) {
+        try {
+            long p = switch (cmd) {
+                case "next" -> PalindromeGenerator.nextPalindrome(x);
+                case "prev" -> PalindromeGenerator.prevPalindrome(x);
+                default -> PalindromeGenerator.nearestPalindrome(x);
+            };
+            System.out.printf("%s(%d) = %d%n", cmd, x, p);
+        } catch (NoSuchElementException e) {
+            System.out.println(e.getMessage());
         }
     }
 
@@ -104,10 +162,46 @@ public final class Main {
         }
     }
 
+    /**
+     * Checks n random non-negative ints with {@link HalfReversePalindrome} one call at a time and
+     * with {@link TableBulkPalindrome#check(int[], int, int, long[])}, best of a few rounds each.
+     */
+    private static void runBulk(int n) {
+        if (n <= 0) {
+            System.out.println("Usage: :bulk <n> with n > 0");
+            return;
+        }
+        int[] xs = new Random(n).ints(n, 0, Integer.MAX_VALUE).toArray();
+        PalindromeStrategy scalar = new HalfReversePalindrome();
+        TableBulkPalindrome table = new TableBulkPalindrome();
+        long[] expected = new long[TableBulkPalindrome.words(n)];
+        long[] bits = new long[expected.length];
+
+        long bestScalar = Long.MAX_VALUE, bestTable = Long.MAX_VALUE;
+        for (int round = 0; round < 5; round++) {
+            long t0 = System.nanoTime();
+            Arrays.fill(expected, 0);
+            for (int i = 0; i < n; i++) {
+                if (scalar.isPalindrome(xs[i])) expected[i >>> 6] |= 1L << i;
+            }
+            long t1 = System.nanoTime();
+            table.check(xs, 0, n, bits);
+            long t2 = System.nanoTime();
+            bestScalar = Math.min(bestScalar, t1 - t0);
+            bestTable = Math.min(bestTable, t2 - t1);
+        }
+        System.out.printf(Locale.US, "n=%d  half: %.2f ns/elt  table: %.2f ns/elt  speedup: %.2fx  %s%n",
+                n, (double) bestScalar / n, (double) bestTable / n, (double) bestScalar / bestTable,
+                Arrays.equals(expected, bits) ? "[ok]" : "[FAIL] bitsets differ");
+    }
+
     private static void printHelp() {
         System.out.println("Commands:");
-        System.out.println("  :algo half|string   switch algorithm (default: half)");
+        System.out.println("  :algo half|string|table  switch algorithm (default: half)");
         System.out.println("  :cases              run sample test cases");
+        System.out.println("  :next|:prev|:near N next / previous / nearest palindrome");
+        System.out.println("  :count A B          number of palindromes in [A, B]");
+        System.out.println("  :bulk N             time bulk table check vs scalar on N random ints");
         System.out.println("  :help               show this help");
         System.out.println("  :q                  quit");
         System.out.println("Or just type integers to test them.");
@@ -0,0 +1,146 @@
+package algorithm.palindromeNumber;
+
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+/**
+ * Next / previous / nearest palindromic integers in O(digits), instead of testing
+ * candidates one by one. Negative numbers are never palindromes (as in
+ * {@link PalindromeStrategy}), so every result is >= 0.
+ * <p>
+ * A palindrome is fixed by its left half: take the first ceil(L/2) digits of the bound,
+ * mirror them, and if that lands on the wrong side of the bound step the half by one.
+ * Mirroring reuses {@link HalfReversePalindrome#mirror(long, boolean)}.
+ */
+public final class PalindromeGenerator {
+    private static final long[] POW10 = new long[19];
+
+    static {
+        POW10[0] = 1;
+        for (int i = 1; i < POW10.length; i++) POW10[i] = POW10[i - 1] * 10;
+    }
+
+    private PalindromeGenerator() {
+    }
+
+    /** Smallest palindrome strictly greater than x. */
+    public static long nextPalindrome(long x) {
+        if (x < 0) return 0;
+        if (x == Long.MAX_VALUE) throw none("above", x);
+        try {
+            return ceiling(x + 1);
+        } catch (ArithmeticException e) {
+            throw none("above", x);
+        }
+    }
+
+    /** Largest palindrome strictly less than x. */
+    public static long prevPalindrome(long x) {
+        if (x <= 0) throw none("below", x);
+        return floor(x - 1);
+    }
+
+    /** x itself if it is a palindrome, otherwise the closer of prev/next (the smaller on a tie). */
+    public static long nearestPalindrome(long x) {
+        if (x <= 0) return 0;
+        long below = floor(x);
+        if (below == x) return x;
+        long above;
+        try {
+            above = ceiling(x);
+        } catch (ArithmeticException e) {
+            return below;
+        }
+        return above - x < x - below ? above : below;
+    }
+
+    public static int nextPalindrome(int x) {
+        long p = nextPalindrome((long) x);
+        if (p > Integer.MAX_VALUE) throw none("above", x);
+        return (int) p;
+    }
+
+    public static int prevPalindrome(int x) {
+        return (int) prevPalindrome((long) x);
+    }
+
+    public static int nearestPalindrome(int x) {
+        long p = nearestPalindrome((long) x);
+        return p > Integer.MAX_VALUE ? (int) floor(x) : (int) p;
+    }
+
+    /** Palindromes in [from, to] in ascending order, generated lazily. */
+    public static PrimitiveIterator.OfLong palindromes(long from, long to) {
+        return new PrimitiveIterator.OfLong() {
+            private long next;
+            private boolean done;
+
+            {
+                try {
+                    next = from <= 0 ? 0 : ceiling(from);
+                    done = next > to;
+                } catch (ArithmeticException e) {
+                    done = true; // no palindrome >= from fits in a long
+                }
+            }
+
+            @Override
+            public boolean hasNext() {
+                return !done;
+            }
+
+            @Override
+            public long nextLong() {
+                if (done) throw new NoSuchElementException();
+                long cur = next;
+                if (cur >= to) {
+                    done = true;
+                } else {
+                    try {
+                        next = nextPalindrome(cur);
+                        done = next > to;
+                    } catch (NoSuchElementException e) {
+                        done = true;
+                    }
+                }
+                return cur;
+            }
+        };
+    }
+
+    /* ======================= Core ======================= */
+
+    /** Smallest palindrome >= y, y >= 0. Throws ArithmeticException past Long.MAX_VALUE. */
+    private static long ceiling(long y) {
+        int len = digits(y);
+        int halfLen = (len + 1) / 2;
+        boolean odd = (len & 1) == 1;
+        long half = y / POW10[len - halfLen];
+        long p = HalfReversePalindrome.mirror(half, odd);
+        if (p >= y) return p;
+        // half + 1 cannot gain a digit: the all-9 half already mirrors to the largest len-digit value
+        return HalfReversePalindrome.mirror(half + 1, odd);
+    }
+
+    /** Largest palindrome <= y, y >= 0. */
+    private static long floor(long y) {
+        int len = digits(y);
+        int halfLen = (len + 1) / 2;
+        boolean odd = (len & 1) == 1;
+        long half = y / POW10[len - halfLen];
+        long p = HalfReversePalindrome.mirror(half, odd);
+        if (p <= y) return p;
+        if (half - 1 < POW10[halfLen - 1]) return POW10[len - 1] - 1; // 10..0 -> 9..9, one digit shorter
+        return HalfReversePalindrome.mirror(half - 1, odd);
+    }
+
+    private static int digits(long y) {
+        int d = 1;
+        while (d < POW10.length && y >= POW10[d]) d++;
+        return d;
+    }
+
+    private static NoSuchElementException none(String side, long x) {
+        return new NoSuchElementException("no palindrome " + side + " " + x + " in range");
+    }
+}
@@ -0,0 +1,71 @@
+package algorithm.palindromeNumber;
+
+/**
+ * Counts palindromic integers in a range without visiting them.
+ * <p>
+ * In base B there are B one-digit palindromes (0 included) and (B-1)·B^(ceil(L/2)-1)
+ * palindromes of L >= 2 digits, since the left half decides the rest. Palindromes up to x
+ * are: all shorter lengths, plus the L-digit ones whose half is below x's half, plus one
+ * if mirroring x's own half does not exceed x.
+ * <p>
+ * Negative numbers are never palindromes. Works for bases 2..36.
+ * Time: O(digits), Space: O(digits)
+ */
+public final class PalindromeRangeCounter {
+    private final int base;
+    private final long[] pow; // pow[i] = base^i while it fits in a long
+
+    public PalindromeRangeCounter(int base) {
+        if (base < Character.MIN_RADIX || base > Character.MAX_RADIX) {
+            throw new IllegalArgumentException("base must be in [2, 36]: " + base);
+        }
+        this.base = base;
+        int n = 1;
+        for (long p = 1; p <= Long.MAX_VALUE / base; p *= base) n++;
+        this.pow = new long[n];
+        pow[0] = 1;
+        for (int i = 1; i < n; i++) pow[i] = pow[i - 1] * base;
+    }
+
+    public static PalindromeRangeCounter decimal() {
+        return new PalindromeRangeCounter(10);
+    }
+
+    public int base() {
+        return base;
+    }
+
+    /** Palindromes in [from, to], both inclusive. */
+    public long count(long from, long to) {
+        if (from > to) throw new IllegalArgumentException("from > to: " + from + " > " + to);
+        if (to < 0) return 0;
+        return countUpTo(to) - (from <= 0 ? 0 : countUpTo(from - 1));
+    }
+
+    /** Palindromes in [0, x]. */
+    public long countUpTo(long x) {
+        if (x < 0) return 0;
+        if (x < base) return x + 1;
+
+        int len = digits(x);
+        long total = base; // one-digit palindromes
+        for (int l = 2; l < len; l++) total += (base - 1) * pow[(l + 1) / 2 - 1];
+
+        int halfLen = (len + 1) / 2;
+        boolean odd = (len & 1) == 1;
+        long half = x / pow[len - halfLen];
+        total += half - pow[halfLen - 1];
+        try {
+            if (HalfReversePalindrome.mirror(half, odd, base) <= x) total++;
+        } catch (ArithmeticException ignored) {
+            // mirror exceeds Long.MAX_VALUE, so it exceeds x too
+        }
+        return total;
+    }
+
+    private int digits(long x) {
+        int d = 1;
+        while (d < pow.length && x >= pow[d]) d++;
+        return d;
+    }
+}
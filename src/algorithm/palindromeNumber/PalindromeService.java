@@ -1,25 +1,33 @@
 package algorithm.palindromeNumber;
 
-import java.util.Objects;
+import algorithm.common.StrategyHolder;
 
+import java.util.Map;
+
+/** Thread-safe: the strategy can be swapped while other threads are calling. */
 public final class PalindromeService {
-    private PalindromeStrategy strategy;
+    private final StrategyHolder<PalindromeStrategy> strategy;
 
     public PalindromeService(PalindromeStrategy strategy) {
-        this.strategy = Objects.requireNonNull(strategy, "strategy");
+        this.strategy = new StrategyHolder<>(strategy);
     }
 
-    public PalindromeStrategy getStrategy() { return strategy; }
+    public PalindromeStrategy getStrategy() { return strategy.get(); }
 
     public void setStrategy(PalindromeStrategy strategy) {
-        this.strategy = Objects.requireNonNull(strategy, "strategy");
+        this.strategy.set(strategy);
     }
 
     public boolean isPalindrome(int x) {
-        return strategy.isPalindrome(x);
+        return strategy.acquire().isPalindrome(x);
+    }
+
+    /** Calls served per strategy class since this service was created. */
+    public Map<Class<?>, Long> callCountsByClass() {
+        return strategy.callCountsByClass();
     }
 
     public static PalindromeService halfDefault() {
         return new PalindromeService(new HalfReversePalindrome());
     }
-}
\ No newline at end of file
+}
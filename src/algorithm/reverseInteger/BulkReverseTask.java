@@ -0,0 +1,112 @@
+package algorithm.reverseInteger;
+
+import java.nio.IntBuffer;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Fork/join task behind {@link ReverseService#reverseAll(int[], int[], long[])}.
+ * <p>
+ * Work is cut into blocks of {@link #BLOCK} ints (16 KiB in + 16 KiB out, small enough to
+ * stay in L1/L2 while a block is processed). Block boundaries are multiples of 64, so every
+ * task owns whole words of the overflow bitmap and no two tasks write the same word.
+ * A strategy signals overflow by returning 0; reverse of a non-zero int is never 0,
+ * so overflow is exactly {@code result == 0 && input != 0}.
+ */
+@SuppressWarnings("serial") // fork/join task, never serialized
+final class BulkReverseTask extends RecursiveTask<Integer> {
+    static final int BLOCK = 4096;
+    /** Below this many ints the whole job runs on the caller thread. */
+    static final int PARALLEL_THRESHOLD = 1 << 16;
+
+    private final ReverseStrategy strategy;
+    private final IntBuffer inBuf;
+    private final IntBuffer outBuf;
+    private final int[] in;
+    private final int[] out;
+    private final int inOff;
+    private final int outOff;
+    private final long[] overflow;
+    private final int from;
+    private final int to;
+
+    BulkReverseTask(ReverseStrategy strategy, int[] in, int inOff, int[] out, int outOff,
+                    long[] overflow, int from, int to) {
+        this(strategy, null, null, in, out, inOff, outOff, overflow, from, to);
+    }
+
+    BulkReverseTask(ReverseStrategy strategy, IntBuffer in, int inOff, IntBuffer out, int outOff,
+                    long[] overflow, int from, int to) {
+        this(strategy, in, out, null, null, inOff, outOff, overflow, from, to);
+    }
+
+    private BulkReverseTask(ReverseStrategy strategy, IntBuffer inBuf, IntBuffer outBuf, int[] in, int[] out,
+                            int inOff, int outOff, long[] overflow, int from, int to) {
+        this.strategy = strategy;
+        this.inBuf = inBuf;
+        this.outBuf = outBuf;
+        this.in = in;
+        this.out = out;
+        this.inOff = inOff;
+        this.outOff = outOff;
+        this.overflow = overflow;
+        this.from = from;
+        this.to = to;
+    }
+
+    @Override
+    protected Integer compute() {
+        if (to - from <= BLOCK) return in != null ? runArrays() : runBuffers();
+
+        int blocks = (to - from + BLOCK - 1) / BLOCK;
+        int mid = from + (blocks / 2) * BLOCK;
+        BulkReverseTask left = new BulkReverseTask(strategy, inBuf, outBuf, in, out, inOff, outOff, overflow, from, mid);
+        left.fork();
+        int right = new BulkReverseTask(strategy, inBuf, outBuf, in, out, inOff, outOff, overflow, mid, to).compute();
+        return left.join() + right;
+    }
+
+    /** Whole job on the current thread, block by block. */
+    int runSequential() {
+        int count = 0;
+        for (int b = from; b < to; b += BLOCK) {
+            BulkReverseTask block = new BulkReverseTask(strategy, inBuf, outBuf, in, out,
+                    inOff, outOff, overflow, b, Math.min(to, b + BLOCK));
+            count += in != null ? block.runArrays() : block.runBuffers();
+        }
+        return count;
+    }
+
+    private int runArrays() {
+        int count = 0;
+        for (int w = from; w < to; w += 64) {
+            int end = Math.min(to, w + 64);
+            long word = 0;
+            for (int i = w; i < end; i++) {
+                int x = in[inOff + i];
+                int r = strategy.reverse(x);
+                out[outOff + i] = r;
+                word |= (long) (((r == 0) & (x != 0)) ? 1 : 0) << (i - w);
+            }
+            overflow[w >>> 6] = word;
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    private int runBuffers() {
+        int count = 0;
+        for (int w = from; w < to; w += 64) {
+            int end = Math.min(to, w + 64);
+            long word = 0;
+            for (int i = w; i < end; i++) {
+                int x = inBuf.get(inOff + i);
+                int r = strategy.reverse(x);
+                outBuf.put(outOff + i, r);
+                word |= (long) (((r == 0) & (x != 0)) ? 1 : 0) << (i - w);
+            }
+            overflow[w >>> 6] = word;
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+}
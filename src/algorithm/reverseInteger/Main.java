@@ -1,8 +1,11 @@
 package algorithm.reverseInteger;
 
 import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
 import java.util.Scanner;
 
 /**
@@ -17,11 +20,13 @@ import java.util.Scanner;
  * Examples:
  *   java algorithm.reverseinteger.Main --algo=math 123 -123 120
  *   java algorithm.reverseinteger.Main --cases
+ *   java algorithm.reverseinteger.Main --bench
  *   java algorithm.reverseinteger.Main            (interactive)
  *
  * Interactive commands:
- *   :algo math|string    switch algorithm
+ *   :algo math|string|table  switch algorithm
  *   :cases               run sample cases
+ *   :bench [n]           time every strategy through ReverseService on n random ints
  *   :meta on|off         toggle timing metadata
  *   :help                show help
  *   :q                   quit
@@ -31,6 +36,7 @@ public final class Main {
     private static ReverseService service = new ReverseService(new MathReverse());
     private static String currentAlgo = "math";
     private static boolean showMeta = true;
+    private static final int DEFAULT_BENCH_SIZE = 5_000_000;
 
     public static void main(String[] args) {
         if (args != null && args.length > 0) {
@@ -41,6 +47,9 @@ public final class Main {
                 } else if (a.equals("--cases")) {
                     runCases();
                     return;
+                } else if (a.equals("--bench")) {
+                    runBench(DEFAULT_BENCH_SIZE);
+                    return;
                 }
             }
             // treat non-flag args as input integers
@@ -76,6 +85,13 @@ public final class Main {
                 runCases();
                 continue;
             }
+            if (line.startsWith(":bench")) {
+                String[] parts = line.split("\\s+");
+                Integer n = parts.length == 2 ? tryParseInt(parts[1]) : Integer.valueOf(DEFAULT_BENCH_SIZE);
+                if (n == null || n <= 0) System.out.println("usage: :bench [n]");
+                else runBench(n);
+                continue;
+            }
             if (line.startsWith(":meta")) {
                 String[] parts = line.split("\\s+");
                 if (parts.length == 2) {
@@ -89,7 +105,7 @@ public final class Main {
             if (line.startsWith(":algo")) {
                 String[] parts = line.split("\\s+");
                 if (parts.length == 2) switchAlgo(parts[1]);
-                else System.out.println("usage: :algo math|string");
+                else System.out.println("usage: :algo math|string|table");
                 continue;
             }
 
@@ -150,7 +166,37 @@ public final class Main {
                 currentAlgo = "string";
                 System.out.println("✔ algorithm: String (uses toString/parseInt, overflow-safe)");
             }
-            default -> System.out.println("unknown algo: " + name + " (use: math|string)");
+            case "table", "t" -> {
+                service.setStrategy(new TableReverse());
+                currentAlgo = "table";
+                System.out.println("✔ algorithm: Table (4 digits per lookup, branch-free overflow)");
+            }
+            default -> System.out.println("unknown algo: " + name + " (use: math|string|table)");
+        }
+    }
+
+    /* ======================= Benchmark ======================= */
+
+    private static void runBench(int n) {
+        int[] xs = new Random(42).ints(n).toArray();
+        Map<String, ReverseStrategy> strategies = new LinkedHashMap<>();
+        strategies.put("math", new MathReverse());
+        strategies.put("string", new StringReverse());
+        strategies.put("table", new TableReverse());
+
+        System.out.println("Benchmark: " + n + " random ints through ReverseService (best of 3 after 1 warm-up)");
+        for (Map.Entry<String, ReverseStrategy> e : strategies.entrySet()) {
+            ReverseService bench = new ReverseService(e.getValue());
+            long best = Long.MAX_VALUE;
+            long sink = 0;
+            for (int round = 0; round < 4; round++) {
+                long t0 = System.nanoTime();
+                for (int x : xs) sink += bench.execute(x);
+                long t = System.nanoTime() - t0;
+                if (round > 0) best = Math.min(best, t);
+            }
+            System.out.printf(Locale.US, "  %-7s %8.2f ns/op   (checksum %d)%n",
+                    e.getKey(), (double) best / n, sink);
         }
     }
 
@@ -188,6 +234,8 @@ public final class Main {
                 commands:
                   :algo math            switch to Math (digit-by-digit)
                   :algo string          switch to String-based
+                  :algo table           switch to table-driven (4 digits per step)
+                  :bench [n]            benchmark all strategies
                   :cases                run sample cases
                   :meta on|off          toggle timing output
                   :help                 this help
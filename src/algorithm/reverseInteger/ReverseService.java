@@ -1,17 +1,80 @@
 package algorithm.reverseInteger;
 
+import algorithm.common.StrategyHolder;
+
+import java.nio.IntBuffer;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+
+/** Thread-safe: the strategy can be swapped while other threads are calling. */
 public class ReverseService {
-    private ReverseStrategy strategy;
+    private final StrategyHolder<ReverseStrategy> strategy;
 
     public ReverseService(ReverseStrategy strategy) {
-        this.strategy = strategy;
+        this.strategy = new StrategyHolder<>(strategy);
     }
 
     public int execute(int x) {
-        return strategy.reverse(x);
+        return strategy.acquire().reverse(x);
+    }
+
+    /**
+     * Reverses every element of {@code in} into {@code out} (same length or longer).
+     * Returns the overflow bitmap: bit i (word i >>> 6, bit i & 63) is set when in[i]
+     * overflowed and out[i] was set to 0.
+     */
+    public long[] reverseAll(int[] in, int[] out) {
+        long[] overflow = new long[(in.length + 63) >>> 6];
+        reverseAll(in, out, overflow);
+        return overflow;
+    }
+
+    /**
+     * Bulk form with a caller-supplied bitmap of at least (in.length + 63) / 64 words.
+     * Large inputs are split across the common pool in cache-sized blocks.
+     *
+     * @return number of overflowed elements
+     */
+    public int reverseAll(int[] in, int[] out, long[] overflow) {
+        if (out.length < in.length) throw new IllegalArgumentException("out is shorter than in");
+        checkBitmap(overflow, in.length);
+        return run(new BulkReverseTask(strategy.acquire(), in, 0, out, 0, overflow, 0, in.length), in.length);
+    }
+
+    /**
+     * Buffer form for off-heap / memory-mapped columns: reverses in[position, limit) into
+     * out starting at out.position(). Neither buffer's position is changed. This stands in for
+     * a MemorySegment overload: on JDK 17 that API is the jdk.incubator.foreign module, which
+     * needs --add-modules, while a direct or mapped buffer reaches the same memory.
+     *
+     * @return number of overflowed elements
+     */
+    public int reverseAll(IntBuffer in, IntBuffer out, long[] overflow) {
+        int n = in.remaining();
+        if (out.remaining() < n) throw new IllegalArgumentException("out has fewer remaining ints than in");
+        checkBitmap(overflow, n);
+        if (in.hasArray() && out.hasArray()) {
+            return run(new BulkReverseTask(strategy.acquire(),
+                    in.array(), in.arrayOffset() + in.position(),
+                    out.array(), out.arrayOffset() + out.position(), overflow, 0, n), n);
+        }
+        return run(new BulkReverseTask(strategy.acquire(), in, in.position(), out, out.position(), overflow, 0, n), n);
+    }
+
+    private static int run(BulkReverseTask task, int n) {
+        return n < BulkReverseTask.PARALLEL_THRESHOLD ? task.runSequential() : ForkJoinPool.commonPool().invoke(task);
+    }
+
+    private static void checkBitmap(long[] overflow, int n) {
+        if (overflow.length < (n + 63) >>> 6) throw new IllegalArgumentException("overflow bitmap too small");
     }
 
     public void setStrategy(ReverseStrategy strategy) {
-        this.strategy = strategy;
+        this.strategy.set(strategy);
+    }
+
+    /** Calls served per strategy class since this service was created. */
+    public Map<Class<?>, Long> callCountsByClass() {
+        return strategy.callCountsByClass();
     }
-}
\ No newline at end of file
+}
@@ -4,6 +4,10 @@ package algorithm.romanToInteger;
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStreamReader;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -17,7 +21,11 @@ import java.util.List;
  * 3) --stdin  -> Reads one Roman numeral per line from STDIN, prints conversion
  * 4) --test   -> Runs built-in test scenarios (no JUnit required)
  * 5) --strict -> Enables strict validation before conversion (can combine with other modes)
- * 6) --help   -> Prints usage help
+ * 6) --dfa    -> Single-pass canonical validate-and-convert (RomanDfaConverter); implies strict
+ *    --file=path -> Bulk-decodes a ,/newline separated column file (RomanColumnDecoder)
+ *    --vinculum -> Extended range: overlined groups in parentheses, e.g. (IV) = 4000 (VinculumRomanParser)
+ *    --trie   -> Lookup in the trie of all canonical numerals (RomanTrieConverter); implies strict
+ * 7) --help   -> Prints usage help
  *
  * Exit codes: 0 on success; 1 on invalid input; 2 on I/O errors.
  */
@@ -27,10 +35,18 @@ public class Main {
         boolean useStrictValidation = false;
         boolean useStdin = false;
         boolean runTests = false;
+        boolean useDfa = false;
+        boolean useTrie = false;
+        boolean useVinculum = false;
 
         // --- parse args (بدون لامبدا) ---
         List<String> positionals = new ArrayList<>();
+        String file = null;
         for (String a : args) {
+            if (a.startsWith("--file=")) {
+                file = a.substring("--file=".length());
+                continue;
+            }
             switch (a) {
                 case "--help":
                     printHelp();
@@ -44,6 +60,15 @@ public class Main {
                 case "--test":
                     runTests = true;
                     break;
+                case "--dfa":
+                    useDfa = true;
+                    break;
+                case "--trie":
+                    useTrie = true;
+                    break;
+                case "--vinculum":
+                    useVinculum = true;
+                    break;
                 default:
                     positionals.add(a);
                     break;
@@ -51,10 +76,21 @@ public class Main {
         }
 
         RomanNumeralService service = new RomanConverter();
+        if (useDfa || useTrie || useVinculum) {
+            // these validate while converting, so the separate validator pass is skipped
+            service = useVinculum ? new VinculumRomanParser()
+                    : useTrie ? new RomanTrieConverter() : new RomanDfaConverter();
+            useStrictValidation = false;
+        }
 
         try {
             if (runTests) {
-                runBuiltInTests(service, useStrictValidation);
+                runBuiltInTests(service, useStrictValidation || useDfa || useTrie || useVinculum);
+                return;
+            }
+
+            if (file != null) {
+                fromFile(file);
                 return;
             }
 
@@ -68,6 +104,10 @@ public class Main {
                 for (String token : positionals) {
                     String s = token.toUpperCase();
                     if (useStrictValidation) RomanValidator.validateStrict(s);
+                    if (service instanceof VinculumRomanParser v) {
+                        System.out.printf("%s -> %d%n", s, v.convertLong(s)); // long range
+                        continue;
+                    }
                     int value = service.convert(s);
                     System.out.printf("%s -> %d%n", s, value);
                 }
@@ -115,6 +155,33 @@ public class Main {
         }
     }
 
+    /** Decodes the whole file in batches through two reused arrays; prints a summary and the first errors. */
+    private static void fromFile(String path) throws IOException {
+        RomanColumnDecoder decoder = new RomanColumnDecoder();
+        int[] values = new int[1 << 16];
+        byte[] errors = new byte[values.length];
+        long rows = 0, bad = 0, sum = 0;
+        long t0 = System.nanoTime();
+        try (FileChannel ch = FileChannel.open(Path.of(path), StandardOpenOption.READ)) {
+            if (ch.size() > Integer.MAX_VALUE) throw new IOException("file larger than 2 GiB");
+            MappedByteBuffer buf = ch.map(FileChannel.MapMode.READ_ONLY, 0, ch.size());
+            while (buf.hasRemaining()) {
+                int n = decoder.decode(buf, values, errors);
+                for (int i = 0; i < n; i++) {
+                    if (errors[i] == 0) {
+                        sum += values[i];
+                    } else if (bad++ < 5) {
+                        System.out.printf("row %d: %s%n", rows + i,
+                                errors[i] == RomanDfaConverter.ERR_EMPTY ? "empty cell" : "invalid symbol");
+                    }
+                }
+                rows += n;
+            }
+        }
+        long t1 = System.nanoTime();
+        System.out.printf("%d rows, %d invalid, sum=%d, time=%.3f ms%n", rows, bad, sum, (t1 - t0) / 1_000_000.0);
+    }
+
     /** Built-in tests (no JUnit). */
     private static void runBuiltInTests(RomanNumeralService service, boolean strict) {
         System.out.println("Running built-in tests (strict=" + strict + ") ...");
@@ -135,7 +202,7 @@ public class Main {
             String s = goods[i];
             try {
                 String u = s.toUpperCase();
-                if (strict) RomanValidator.validateStrict(u);
+                if (strict && !validatesItself(service)) RomanValidator.validateStrict(u);
                 int got = service.convert(u);
                 if (got != expected[i]) {
                     fail++;
@@ -156,7 +223,7 @@ public class Main {
             for (String s : bads) {
                 try {
                     String u = s.toUpperCase();
-                    RomanValidator.validateStrict(u);
+                    if (!validatesItself(service)) RomanValidator.validateStrict(u);
                     int got = service.convert(u);
                     fail++;
                     System.out.printf("[FAIL] invalid '%s' passed with value %d%n", s, got);
@@ -175,17 +242,29 @@ public class Main {
         else System.out.println("Some tests failed ❌");
     }
 
+    /** True for services that reject non-canonical input themselves. */
+    private static boolean validatesItself(RomanNumeralService service) {
+        return service instanceof RomanDfaConverter || service instanceof RomanTrieConverter
+                || service instanceof VinculumRomanParser;
+    }
+
     private static void printHelp() {
         System.out.println("Roman to Integer — CLI");
         System.out.println("Usage:");
         System.out.println("  Main [--strict] [ROMAN ...]");
         System.out.println("  Main --stdin [--strict]");
         System.out.println("  Main --test [--strict]");
+        System.out.println("  Main --file=path");
+        System.out.println("  Main --dfa|--trie|--vinculum [--stdin|--test] [ROMAN ...]");
         System.out.println("  Main --help");
         System.out.println();
         System.out.println("Options:");
         System.out.println("  --strict   Enable strict Roman grammar validation (throws on invalid forms)");
         System.out.println("  --stdin    Read one Roman numeral per line from STDIN");
+        System.out.println("  --dfa      Validate canonical form and convert in one pass (no separate validator)");
+        System.out.println("  --file=p   Decode every cell of a ,/newline separated file (summary + first errors)");
+        System.out.println("  --vinculum Accept overlined groups as parentheses: (IV) = 4000, ((V)) = 5000000");
+        System.out.println("  --trie     Same via one walk of a precomputed trie of all 3999 numerals");
         System.out.println("  --test     Run built-in test scenarios (no JUnit required)");
         System.out.println("  --help     Show this help");
         System.out.println();
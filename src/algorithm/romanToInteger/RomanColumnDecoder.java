@@ -0,0 +1,59 @@
+package algorithm.romanToInteger;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Bulk Roman → Integer for columns of numerals in a {@link ByteBuffer} (e.g. a mapped CSV
+ * column export), without creating a String per cell.
+ * <p>
+ * Cells are separated by ',' or '\n'; spaces and '\r' around a numeral are ignored, so CRLF
+ * files work. Each cell is one row: its value goes to {@code values[row]} and a status code to
+ * {@code errors[row]} (0 = ok, else {@link RomanDfaConverter#ERR_EMPTY} or
+ * {@link RomanDfaConverter#ERR_SYMBOL}, with value 0). Values follow {@link RomanConverter}
+ * (same {@code VALS} table, same lenient subtractive rule), computed in one pass per cell by
+ * undoing the previous symbol when a larger one follows.
+ * <p>
+ * {@link #decode} fills at most {@code values.length} rows and advances the buffer position
+ * past them, so large inputs can be streamed through the same two arrays.
+ * Time: O(n), Space: O(1) beyond the caller's arrays.
+ */
+public final class RomanColumnDecoder {
+
+    /**
+     * Decodes rows from {@code buf.position()} until the arrays are full or the limit is reached.
+     * A delimiter right before the limit does not start another row.
+     *
+     * @return number of rows written
+     */
+    public int decode(ByteBuffer buf, int[] values, byte[] errors) {
+        if (buf == null || values == null || errors == null) throw new IllegalArgumentException("input is null");
+        int max = Math.min(values.length, errors.length);
+        int[] vals = RomanConverter.VALS;
+        int i = buf.position(), limit = buf.limit(), rows = 0;
+
+        while (rows < max && i < limit) {
+            int total = 0, prev = 0;
+            int code = 0;
+            boolean closed = false; // padding seen after a symbol: another symbol is an error
+            for (; i < limit; i++) {
+                int b = buf.get(i);
+                if (b == ',' || b == '\n') break;
+                if (b == ' ' || b == '\r') {
+                    closed = prev != 0;
+                    continue;
+                }
+                int v = b >= 'A' && b <= 'Z' ? vals[b - 'A'] : 0;
+                if (v == 0 || closed) code = RomanDfaConverter.ERR_SYMBOL;
+                total += v - (prev < v ? 2 * prev : 0);
+                prev = v;
+            }
+            if (i < limit) i++; // delimiter
+            if (code == 0 && prev == 0) code = RomanDfaConverter.ERR_EMPTY;
+            values[rows] = code == 0 ? total : 0;
+            errors[rows] = (byte) code;
+            rows++;
+        }
+        buf.position(i);
+        return rows;
+    }
+}
@@ -8,8 +8,8 @@ package algorithm.romanToInteger;
  */
 public final class RomanConverter implements RomanNumeralService {
 
-    // Lookup table for 'A'..'Z' (index = ch - 'A')
-    private static final int[] VALS = new int[26];
+    // Lookup table for 'A'..'Z' (index = ch - 'A'); shared with RomanColumnDecoder
+    static final int[] VALS = new int[26];
     static {
         VALS['I' - 'A'] = 1;
         VALS['V' - 'A'] = 5;
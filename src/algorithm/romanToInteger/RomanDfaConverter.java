@@ -0,0 +1,155 @@
+package algorithm.romanToInteger;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Strict Roman → Integer converter: validation and conversion fused into one table-driven
+ * DFA pass, with no exceptions or Strings on the hot path.
+ * <p>
+ * Accepts exactly the canonical classical forms 1..3999, i.e. the grammar
+ * {@code M{0,3} (CM|CD|D?C{0,3}) (XC|XL|L?X{0,3}) (IX|IV|V?I{0,3})}. This is stricter than
+ * {@link RomanValidator#validateStrict}, which still lets through e.g. "MCMCM" or "IXI".
+ * <p>
+ * Each state is (decimal place, position inside that place's pattern); a transition entry
+ * packs the next state and the amount to add, so every character costs one class lookup
+ * and one table read. {@link #convertPacked} returns the value, or a negative code holding
+ * the error kind and the index of the offending character (see {@link #errorCode},
+ * {@link #errorIndex}); {@link #convert(String)} only builds an exception once it fails.
+ * Time: O(n), Space: O(1) (tables are 37 × 8 ints).
+ */
+public final class RomanDfaConverter implements RomanNumeralService {
+
+    /** Empty input. */
+    public static final int ERR_EMPTY = 1;
+    /** Character that is not one of I V X L C D M. */
+    public static final int ERR_SYMBOL = 2;
+    /** Valid symbol in a position the canonical grammar does not allow. */
+    public static final int ERR_ORDER = 3;
+
+    /* ======================= Tables ======================= */
+
+    private static final int CLASSES = 8;           // I V X L C D M, other
+    private static final int OTHER = 7;
+    private static final int SUBSTATES = 9;
+    private static final int START = 4 * SUBSTATES; // before the first symbol; any place may begin
+    private static final int STATES = START + 1;
+
+    /** Symbol class per ASCII char; OTHER for everything else. */
+    private static final byte[] CLASS = new byte[128];
+    /** {@code (delta << 8) | nextState}, or -1 when the transition is invalid. */
+    private static final int[] NEXT = new int[STATES * CLASSES];
+
+    // per place p (0 = ones .. 3 = thousands): class of its "one" and "five" symbol, unit value
+    private static final int[] ONE = {0, 2, 4, 6};
+    private static final int[] FIVE = {1, 3, 5, -1};
+    private static final int[] UNIT = {1, 10, 100, 1000};
+
+    // sub-states inside a place: s0 nothing yet, s1..s3 ones, s4 closed (IV / IX), s5 five, s6..s8 five + ones
+    static {
+        Arrays.fill(CLASS, (byte) OTHER);
+        String symbols = "IVXLCDM";
+        for (int k = 0; k < symbols.length(); k++) CLASS[symbols.charAt(k)] = (byte) k;
+
+        Arrays.fill(NEXT, -1);
+        for (int p = 0; p < 4; p++) {
+            for (int s = 1; s < SUBSTATES; s++) {
+                for (int c = 0; c < OTHER; c++) NEXT[(p * SUBSTATES + s) * CLASSES + c] = step(p, s, c);
+            }
+        }
+        for (int c = 0; c < OTHER; c++) NEXT[START * CLASSES + c] = step(4, 0, c);
+    }
+
+    /** Transition from (place p, sub-state s) on class c, or -1. Place 4 stands for START. */
+    private static int step(int p, int s, int c) {
+        if (p < 4) {
+            int u = UNIT[p];
+            boolean one = c == ONE[p], five = c == FIVE[p], ten = p < 3 && c == ONE[p + 1];
+            int to = -1, delta = 0;
+            switch (s) {
+                case 0 -> { if (one) { to = 1; delta = u; } else if (five) { to = 5; delta = 5 * u; } }
+                case 1 -> {
+                    if (one) { to = 2; delta = u; }
+                    else if (five) { to = 4; delta = 3 * u; }  // IV: 1 + 3
+                    else if (ten) { to = 4; delta = 8 * u; }   // IX: 1 + 8
+                }
+                case 2, 5, 6, 7 -> { if (one) { to = s + 1; delta = u; } }
+                default -> { }
+            }
+            if (to >= 0) return (delta << 8) | (p * SUBSTATES + to);
+        }
+        // otherwise the symbol must open a lower place
+        for (int q = p - 1; q >= 0; q--) {
+            if (c == ONE[q] || c == FIVE[q]) return step(q, 0, c);
+        }
+        return -1;
+    }
+
+    /* ======================= API ======================= */
+
+    @Override
+    public int convert(String s) {
+        if (s == null) throw new IllegalArgumentException("input is null");
+        long r = convertPacked(s, 0, s.length());
+        if (r >= 0) return (int) r;
+        throw new IllegalArgumentException(describe(r, s));
+    }
+
+    /** Value of s[from, to), or a negative error code. */
+    public long convertPacked(CharSequence s, int from, int to) {
+        Objects.checkFromToIndex(from, to, s.length());
+        int state = START, total = 0;
+        for (int i = from; i < to; i++) {
+            char ch = s.charAt(i);
+            int cls = ch < 128 ? CLASS[ch] : OTHER;
+            int e = NEXT[state * CLASSES + cls];
+            if (e < 0) return error(cls == OTHER ? ERR_SYMBOL : ERR_ORDER, i);
+            total += e >>> 8;
+            state = e & 0xFF;
+        }
+        return state == START ? error(ERR_EMPTY, from) : total;
+    }
+
+    /** Same as {@link #convertPacked(CharSequence, int, int)} over ASCII bytes. */
+    public long convertPacked(byte[] b, int from, int to) {
+        Objects.checkFromToIndex(from, to, b.length);
+        int state = START, total = 0;
+        for (int i = from; i < to; i++) {
+            int cls = CLASS[b[i] & 0x7F] | (b[i] >> 7 & OTHER); // non-ASCII → OTHER
+            int e = NEXT[state * CLASSES + cls];
+            if (e < 0) return error(cls == OTHER ? ERR_SYMBOL : ERR_ORDER, i);
+            total += e >>> 8;
+            state = e & 0xFF;
+        }
+        return state == START ? error(ERR_EMPTY, from) : total;
+    }
+
+    /* ======================= Error codes ======================= */
+
+    public static boolean isError(long r) {
+        return r < 0;
+    }
+
+    /** One of {@link #ERR_EMPTY}, {@link #ERR_SYMBOL}, {@link #ERR_ORDER}; 0 if r is a value. */
+    public static int errorCode(long r) {
+        return r < 0 ? (int) ((r >>> 32) & 0xFF) : 0;
+    }
+
+    /** Index of the offending character (for {@link #ERR_EMPTY}, the range start). */
+    public static int errorIndex(long r) {
+        return (int) r;
+    }
+
+    private static long error(int code, int index) {
+        return Long.MIN_VALUE | ((long) code << 32) | (index & 0xFFFFFFFFL);
+    }
+
+    private static String describe(long r, CharSequence s) {
+        int i = errorIndex(r);
+        return switch (errorCode(r)) {
+            case ERR_EMPTY -> "Input must be non-empty.";
+            case ERR_SYMBOL -> "Invalid symbol: " + s.charAt(i) + " at index " + i;
+            default -> "Invalid Roman numeral: '" + s.charAt(i) + "' not allowed at index " + i;
+        };
+    }
+}
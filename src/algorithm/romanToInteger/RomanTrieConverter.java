@@ -0,0 +1,93 @@
+package algorithm.romanToInteger;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Roman → Integer by lookup in a trie of all 3999 canonical numerals.
+ * <p>
+ * Every prefix of a canonical numeral is itself canonical ("MCM" → "MC" → "M"), so the trie
+ * has exactly 4000 nodes and node {@code n} can be the node of numeral {@code n}: walking the
+ * input from the root lands on its value directly, and any non-canonical input falls into a
+ * sink node. Validation and conversion are therefore one walk, with no arithmetic and one
+ * range check at the end. Children live in one flat {@code char[]} (8 slots per node, ~64 KiB),
+ * built on first use via the holder idiom.
+ * Time: O(n), Space: O(1) per call; O(3999) for the shared table.
+ */
+public final class RomanTrieConverter implements RomanNumeralService {
+
+    private static final int MAX = 3999;
+    private static final int SINK = MAX + 1;
+    private static final int WIDTH = 8;  // I V X L C D M, other
+    private static final int OTHER = 7;
+
+    /** Symbol class per ASCII char; OTHER for everything else. */
+    private static final byte[] CLASS = new byte[128];
+    static {
+        Arrays.fill(CLASS, (byte) OTHER);
+        String symbols = "IVXLCDM";
+        for (int k = 0; k < symbols.length(); k++) CLASS[symbols.charAt(k)] = (byte) k;
+    }
+
+    /** Lazily built trie; the JVM initializes it on the first lookup, once, thread-safely. */
+    private static final class Trie {
+        static final char[] CHILD = build();
+
+        private static char[] build() {
+            String[][] places = {
+                    {"", "I", "II", "III", "IV", "V", "VI", "VII", "VIII", "IX"},
+                    {"", "X", "XX", "XXX", "XL", "L", "LX", "LXX", "LXXX", "XC"},
+                    {"", "C", "CC", "CCC", "CD", "D", "DC", "DCC", "DCCC", "CM"},
+                    {"", "M", "MM", "MMM"}
+            };
+            String[] numeral = new String[MAX + 1];
+            for (int n = 1; n <= MAX; n++) {
+                numeral[n] = places[3][n / 1000] + places[2][n / 100 % 10] + places[1][n / 10 % 10] + places[0][n % 10];
+            }
+            char[] child = new char[(SINK + 1) * WIDTH];
+            Arrays.fill(child, (char) SINK); // root and sink included: anything unknown sinks
+            // shortest first, so the parent (numeral minus its last symbol) always exists already
+            for (int len = 1; len <= 15; len++) {
+                for (int n = 1; n <= MAX; n++) {
+                    String s = numeral[n];
+                    if (s.length() != len) continue;
+                    int node = 0;
+                    for (int i = 0; i < len - 1; i++) node = child[node * WIDTH + CLASS[s.charAt(i)]];
+                    child[node * WIDTH + CLASS[s.charAt(len - 1)]] = (char) n;
+                }
+            }
+            return child;
+        }
+    }
+
+    @Override
+    public int convert(String s) {
+        if (s == null) throw new IllegalArgumentException("input is null");
+        int v = lookup(s, 0, s.length());
+        if (v == 0) throw new IllegalArgumentException("Not a canonical Roman numeral: " + s);
+        return v;
+    }
+
+    /** Value of s[from, to) if it is a canonical numeral, else 0. */
+    public int lookup(CharSequence s, int from, int to) {
+        Objects.checkFromToIndex(from, to, s.length());
+        char[] child = Trie.CHILD;
+        int node = 0;
+        for (int i = from; i < to; i++) {
+            char c = s.charAt(i);
+            node = child[node * WIDTH + (c < 128 ? CLASS[c] : OTHER)];
+        }
+        return node <= MAX ? node : 0;
+    }
+
+    /** Value of the ASCII bytes b[from, to) if they are a canonical numeral, else 0. */
+    public int lookup(byte[] b, int from, int to) {
+        Objects.checkFromToIndex(from, to, b.length);
+        char[] child = Trie.CHILD;
+        int node = 0;
+        for (int i = from; i < to; i++) {
+            node = child[node * WIDTH + (CLASS[b[i] & 0x7F] | (b[i] >> 7 & OTHER))];
+        }
+        return node <= MAX ? node : 0;
+    }
+}
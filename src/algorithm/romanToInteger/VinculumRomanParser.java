@@ -0,0 +1,72 @@
+package algorithm.romanToInteger;
+
+/**
+ * Roman → Integer for the extended vinculum form written by
+ * {@code integertoRoman.VinculumRomanConverter}: overlined groups in parentheses, each level
+ * multiplying by 1000 ("(IV)" = 4000, "((V))" = 5,000,000, "(MCCXXXIV)DLXVII" = 1,234,567).
+ * <p>
+ * The only accepted shape is {@code "(" * d  P_d  (")" P_i) for i = d-1 .. 0}: the innermost
+ * part P_d is a canonical numeral (≥ IV when d > 0, else the value would have fit without an
+ * overline), and every later part is empty or a canonical numeral below M. Each part is
+ * validated and converted by {@link RomanDfaConverter}, so the parse is one pass.
+ * Time: O(n), Space: O(1).
+ */
+public final class VinculumRomanParser implements RomanNumeralService {
+
+    private final RomanDfaConverter dfa = new RomanDfaConverter();
+
+    /** @throws IllegalArgumentException also when the value does not fit in an int */
+    @Override
+    public int convert(String s) {
+        long v = convertLong(s);
+        if (v > Integer.MAX_VALUE) throw new IllegalArgumentException("value exceeds int range: " + v);
+        return (int) v;
+    }
+
+    public long convertLong(CharSequence s) {
+        if (s == null) throw new IllegalArgumentException("input is null");
+        int n = s.length();
+        int depth = 0;
+        while (depth < n && s.charAt(depth) == '(') depth++;
+
+        int i = depth;
+        int end = partEnd(s, i);
+        long value = part(s, i, end, depth > 0 ? 4 : 1, 3999);
+        i = end;
+        try {
+            for (int level = depth - 1; level >= 0; level--) {
+                if (i == n || s.charAt(i) != ')') throw invalid(s, i, "expected ')'");
+                end = partEnd(s, ++i);
+                long low = end == i ? 0 : part(s, i, end, 1, 999);
+                value = Math.addExact(Math.multiplyExact(value, 1000), low);
+                i = end;
+            }
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("value exceeds long range");
+        }
+        if (i != n) throw invalid(s, i, "unexpected '" + s.charAt(i) + "'");
+        return value;
+    }
+
+    /** First index at or after {@code from} that is a parenthesis, or the end. */
+    private static int partEnd(CharSequence s, int from) {
+        int i = from;
+        while (i < s.length() && s.charAt(i) != ')' && s.charAt(i) != '(') i++;
+        return i;
+    }
+
+    private long part(CharSequence s, int from, int to, int min, int max) {
+        long r = dfa.convertPacked(s, from, to);
+        if (RomanDfaConverter.isError(r)) {
+            int at = RomanDfaConverter.errorIndex(r);
+            throw invalid(s, at, RomanDfaConverter.errorCode(r) == RomanDfaConverter.ERR_EMPTY
+                    ? "missing numeral" : "invalid numeral");
+        }
+        if (r < min || r > max) throw invalid(s, from, "group value " + r + " not in [" + min + ", " + max + "]");
+        return r;
+    }
+
+    private static IllegalArgumentException invalid(CharSequence s, int index, String why) {
+        return new IllegalArgumentException("Invalid vinculum numeral '" + s + "' at index " + index + ": " + why);
+    }
+}
@@ -0,0 +1,59 @@
+package algorithm.stringtoInteger_atoi;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Fork/join task behind {@link ParallelAtoiFileParser}: parses chunks [lo, hi) of one mapped
+ * window. Chunk c spans [bounds[c], bounds[c + 1]) and ends right after a delimiter, so every
+ * chunk is independent. Each chunk writes only its own slot of the result arrays; positions
+ * are buffer indices, made absolute by the caller.
+ */
+@SuppressWarnings("serial") // fork/join task, never serialized
+final class AtoiChunkTask extends RecursiveAction {
+    private final ByteBufferAtoiParser parser;
+    private final ByteBuffer buf;
+    private final int[] bounds;
+    private final IntArrayList[] values;
+    private final IntArrayList[] overflowAt;
+    private final IntArrayList[] errorAt;
+    private final int lo;
+    private final int hi;
+
+    AtoiChunkTask(ByteBufferAtoiParser parser, ByteBuffer buf, int[] bounds, IntArrayList[] values,
+                  IntArrayList[] overflowAt, IntArrayList[] errorAt, int lo, int hi) {
+        this.parser = parser;
+        this.buf = buf;
+        this.bounds = bounds;
+        this.values = values;
+        this.overflowAt = overflowAt;
+        this.errorAt = errorAt;
+        this.lo = lo;
+        this.hi = hi;
+    }
+
+    @Override
+    protected void compute() {
+        if (hi - lo == 1) {
+            parseChunk(lo);
+            return;
+        }
+        int mid = (lo + hi) >>> 1;
+        AtoiChunkTask left = new AtoiChunkTask(parser, buf, bounds, values, overflowAt, errorAt, lo, mid);
+        left.fork();
+        new AtoiChunkTask(parser, buf, bounds, values, overflowAt, errorAt, mid, hi).compute();
+        left.join();
+    }
+
+    void parseChunk(int c) {
+        int from = bounds[c], to = bounds[c + 1];
+        // ~4 bytes per value is a typical lower bound for "n,"-style text; the list grows if not
+        IntArrayList out = new IntArrayList((to - from) >>> 2);
+        IntArrayList overflow = new IntArrayList(4);
+        IntArrayList error = new IntArrayList(4);
+        parser.parseAll(buf, from, to, out, overflow, error); // absolute gets only: safe to share buf
+        values[c] = out;
+        overflowAt[c] = overflow;
+        errorAt[c] = error;
+    }
+}
@@ -0,0 +1,19 @@
+package algorithm.stringtoInteger_atoi;
+
+/**
+ * Side channel of {@link ParallelAtoiFileParser#parseFile}: the values themselves go to the
+ * caller's {@link IntArrayList}; this record holds absolute byte offsets into the file.
+ *
+ * @param overflowOffsets offset of the digit that overflowed, one per clamped value, ascending
+ * @param errorOffsets    start of each non-blank field that held no number, ascending
+ * @param chunks          number of chunks the file was parsed in
+ */
+public record AtoiFileReport(long[] overflowOffsets, long[] errorOffsets, int chunks) {
+    public int overflows() {
+        return overflowOffsets.length;
+    }
+
+    public int errors() {
+        return errorOffsets.length;
+    }
+}
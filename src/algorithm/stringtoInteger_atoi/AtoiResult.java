@@ -1,5 +1,28 @@
 package algorithm.stringtoInteger_atoi;
 
+/**
+ * Parse outcome. Hot loops can use the packed long form instead of this record:
+ * value in bits 0..31, endIndex in bits 32..62, overflowed in bit 63.
+ */
 public record AtoiResult(int value, boolean overflowed, int endIndex) {
 
-}
\ No newline at end of file
+    public static long pack(int value, boolean overflowed, int endIndex) {
+        return (overflowed ? Long.MIN_VALUE : 0) | ((long) endIndex << 32) | (value & 0xFFFFFFFFL);
+    }
+
+    public static AtoiResult unpack(long packed) {
+        return new AtoiResult(value(packed), overflowed(packed), endIndex(packed));
+    }
+
+    public static int value(long packed) {
+        return (int) packed;
+    }
+
+    public static boolean overflowed(long packed) {
+        return packed < 0;
+    }
+
+    public static int endIndex(long packed) {
+        return (int) ((packed >>> 32) & Integer.MAX_VALUE);
+    }
+}
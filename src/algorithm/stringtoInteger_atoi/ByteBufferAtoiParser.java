@@ -0,0 +1,178 @@
+package algorithm.stringtoInteger_atoi;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * atoi over ASCII bytes in a {@link ByteBuffer} / {@link MappedByteBuffer}, no Strings.
+ * <p>
+ * {@link #parse(ByteBuffer, int)} applies {@link DefaultAtoiParser}'s rules to bytes (leading
+ * spaces, one sign, digits, clamp and flag on overflow); bytes carry no non-ASCII digits, so
+ * only '0'..'9' count. It returns an absolute {@code endIndex}, and a call starting on a
+ * delimiter skips it, so values separated by single delimiters can be read by feeding each
+ * {@code endIndex} back in. Other trailing bytes are not skipped. {@link #parse(String)}
+ * delegates to {@link DefaultAtoiParser}, so it also accepts non-ASCII digits. {@link #parseAll} tokenizes a whole buffer of
+ * values separated by ',', '\n' or '\r' into an {@link IntArrayList}; fields without a
+ * number (empty, blank, non-numeric) are skipped and anything after a number up to the
+ * next delimiter is ignored.
+ * Files larger than one mapping are mapped in windows cut at delimiter boundaries.
+ */
+public class ByteBufferAtoiParser implements AtoiParser {
+    /** Largest single mapping used by {@link #parseFile(Path, IntArrayList)}. */
+    static final long MAX_WINDOW = 1L << 30;
+
+    private static final int INT_MAX = Integer.MAX_VALUE;
+    private static final int INT_MIN = Integer.MIN_VALUE;
+    private static final int LIMIT_DIV_10 = INT_MAX / 10; // 214748364
+
+    private static final DefaultAtoiParser STRINGS = new DefaultAtoiParser();
+
+    @Override
+    public AtoiResult parse(String s) {
+        return STRINGS.parse(s);
+    }
+
+    /**
+     * Parses one value starting at absolute index {@code from}, stopping at {@code buf.limit()}.
+     * One delimiter at {@code from} is skipped first.
+     */
+    public AtoiResult parse(ByteBuffer buf, int from) {
+        int to = buf.limit();
+        if (from < to && isDelimiter(buf.get(from))) from++;
+        return AtoiResult.unpack(parsePacked(buf, from, to));
+    }
+
+    /**
+     * Parses every delimited value in [position, limit) into {@code out}.
+     * The buffer's position is not changed.
+     *
+     * @return number of values that overflowed (and were clamped)
+     */
+    public int parseAll(ByteBuffer buf, IntArrayList out) {
+        return parseAll(buf, buf.position(), buf.limit(), out);
+    }
+
+    /** Memory-maps {@code file} window by window and parses all values into {@code out}. */
+    public long parseFile(Path file, IntArrayList out) throws IOException {
+        return forEachWindow(file, (map, end, pos) -> parseAll(map, 0, end, out));
+    }
+
+    /** Work on one mapped window: bytes [0, end) of {@code map}, which starts at file offset {@code pos}. */
+    @FunctionalInterface
+    interface WindowParser {
+        long parse(MappedByteBuffer map, int end, long pos);
+    }
+
+    /**
+     * Maps {@code file} in windows of up to {@link #MAX_WINDOW} bytes, each cut after its last
+     * delimiter so no token straddles two windows, and returns the sum of {@code parser}'s results.
+     */
+    static long forEachWindow(Path file, WindowParser parser) throws IOException {
+        long total = 0;
+        try (FileChannel ch = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = ch.size();
+            long pos = 0;
+            while (pos < size) {
+                long len = Math.min(MAX_WINDOW, size - pos);
+                MappedByteBuffer map = ch.map(FileChannel.MapMode.READ_ONLY, pos, len);
+                int end = (int) len;
+                if (pos + len < size) {
+                    int cut = end;
+                    while (cut > 0 && !isDelimiter(map.get(cut - 1))) cut--;
+                    if (cut > 0) end = cut;
+                }
+                total += parser.parse(map, end, pos);
+                pos += end;
+            }
+        }
+        return total;
+    }
+
+    int parseAll(ByteBuffer buf, int from, int to, IntArrayList out) {
+        return parseAll(buf, from, to, out, null, null);
+    }
+
+    /**
+     * Same as {@link #parseAll(ByteBuffer, int, int, IntArrayList)}, additionally recording
+     * (when the lists are non-null) the buffer index of every overflowing digit and the start
+     * of every non-blank field that holds no number.
+     */
+    int parseAll(ByteBuffer buf, int from, int to, IntArrayList out,
+                 IntArrayList overflowAt, IntArrayList errorAt) {
+        int overflows = 0;
+        int i = from;
+        while (i < to) {
+            byte b = buf.get(i);
+            if (isDelimiter(b)) {
+                i++;
+                continue;
+            }
+            long packed = parsePacked(buf, i, to);
+            int end = AtoiResult.endIndex(packed);
+            if (AtoiResult.overflowed(packed)) {
+                overflows++;
+                if (overflowAt != null) overflowAt.add(end);
+            }
+            if (end > i && endsWithDigit(buf, end)) {
+                out.add(AtoiResult.value(packed));
+            } else if (errorAt != null && !isBlankField(buf, i, end, to)) {
+                errorAt.add(i);
+            }
+            i = end;
+            while (i < to && !isDelimiter(buf.get(i))) i++; // ignore trailing junk in the field
+        }
+        return overflows;
+    }
+
+    /* ======================= Core ======================= */
+
+    /** Parses one value in [from, to) and returns it packed (see {@link AtoiResult#pack}). */
+    protected long parsePacked(ByteBuffer buf, int from, int to) {
+        int i = from;
+        while (i < to && buf.get(i) == ' ') i++;
+        if (i == to) return AtoiResult.pack(0, false, i);
+
+        boolean negative = false;
+        byte c = buf.get(i);
+        if (c == '+' || c == '-') {
+            negative = c == '-';
+            i++;
+        }
+        return digits(buf, i, to, negative, 0);
+    }
+
+    /** Digit loop from index {@code i}, continuing an accumulated magnitude {@code num}. */
+    protected long digits(ByteBuffer buf, int i, int to, boolean negative, int num) {
+        while (i < to) {
+            int digit = buf.get(i) - '0';
+            if (digit < 0 || digit > 9) break;
+            // same bound as DefaultAtoiParser: num > (INT_MAX - digit) / 10, without the division
+            if (num > LIMIT_DIV_10 || (num == LIMIT_DIV_10 && digit > 7)) {
+                return AtoiResult.pack(negative ? INT_MIN : INT_MAX, true, i);
+            }
+            num = num * 10 + digit;
+            i++;
+        }
+        return AtoiResult.pack(negative ? -num : num, false, i);
+    }
+
+    static boolean isDelimiter(byte b) {
+        return b == ',' || b == '\n' || b == '\r';
+    }
+
+    /** A field with no number is blank when the parse consumed only spaces and stopped at a delimiter. */
+    private static boolean isBlankField(ByteBuffer buf, int start, int end, int to) {
+        if (end > start && buf.get(end - 1) != ' ') return false; // a lone sign
+        return end == to || isDelimiter(buf.get(end));
+    }
+
+    /** False when the parse consumed only spaces / a sign, i.e. the field had no number. */
+    private static boolean endsWithDigit(ByteBuffer buf, int end) {
+        byte last = buf.get(end - 1);
+        return last >= '0' && last <= '9';
+    }
+}
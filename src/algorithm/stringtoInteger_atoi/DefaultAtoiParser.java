@@ -1,6 +1,8 @@
 package algorithm.stringtoInteger_atoi;
 
 
+import java.util.Objects;
+
 public class DefaultAtoiParser implements AtoiParser {
 
     private static final int INT_MAX = (1 << 31) - 1;
@@ -9,13 +11,28 @@ public class DefaultAtoiParser implements AtoiParser {
     @Override
     public AtoiResult parse(String s) {
         if (s == null || s.isEmpty()) return new AtoiResult(0, false, 0);
+        return AtoiResult.unpack(parsePacked(s, 0, s.length()));
+    }
+
+    /** Parses s[from, to); endIndex is an index into s, so the next call can start there. */
+    public AtoiResult parse(CharSequence s, int from, int to) {
+        return AtoiResult.unpack(parsePacked(s, from, to));
+    }
+
+    /**
+     * Allocation-free form of {@link #parse(CharSequence, int, int)}: the result is packed into
+     * one long, read back with {@link AtoiResult#value(long)}, {@link AtoiResult#overflowed(long)}
+     * and {@link AtoiResult#endIndex(long)}.
+     */
+    public long parsePacked(CharSequence s, int from, int to) {
+        Objects.checkFromToIndex(from, to, s.length());
 
-        int i = 0, n = s.length();
+        int i = from, n = to;
         while (i < n && s.charAt(i) == ' '){
             i++;
         }
         if (i == n){
-            return new AtoiResult(0, false, i);
+            return AtoiResult.pack(0, false, i);
         }
 
         int sign = 1;
@@ -25,14 +42,17 @@ public class DefaultAtoiParser implements AtoiParser {
         }
 
         int num = 0;
-        while (i < n && Character.isDigit(s.charAt(i))) {
-            int digit = s.charAt(i) - '0';
+        while (i < n) {
+            char c = s.charAt(i);
+            int digit = c - '0';
+            // ASCII fast path; other Unicode digits keep the historical c - '0' value
+            if ((digit < 0 || digit > 9) && (c < 0x80 || !Character.isDigit(c))) break;
             if (num > (INT_MAX - digit) / 10) {
-                return new AtoiResult(sign == 1 ? INT_MAX : INT_MIN, true, i);
+                return AtoiResult.pack(sign == 1 ? INT_MAX : INT_MIN, true, i);
             }
             num = num * 10 + digit;
             i++;
         }
-        return new AtoiResult(sign * num, false, i);
+        return AtoiResult.pack(sign * num, false, i);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,60 @@
+package algorithm.stringtoInteger_atoi;
+
+import java.util.Arrays;
+
+/** Growable primitive int array, so bulk parsers do not box values. */
+public final class IntArrayList {
+    private int[] data;
+    private int size;
+
+    public IntArrayList() {
+        this(16);
+    }
+
+    public IntArrayList(int initialCapacity) {
+        if (initialCapacity < 0) throw new IllegalArgumentException("capacity < 0");
+        this.data = new int[Math.max(1, initialCapacity)];
+    }
+
+    public void add(int v) {
+        if (size == data.length) grow(size + 1);
+        data[size++] = v;
+    }
+
+    public void addAll(IntArrayList other) {
+        ensureCapacity(size + other.size);
+        System.arraycopy(other.data, 0, data, size, other.size);
+        size += other.size;
+    }
+
+    public int get(int i) {
+        if (i < 0 || i >= size) throw new IndexOutOfBoundsException("index " + i + ", size " + size);
+        return data[i];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    public void ensureCapacity(int capacity) {
+        if (capacity > data.length) grow(capacity);
+    }
+
+    /** Backing array; only the first {@link #size()} slots are valid. */
+    public int[] array() {
+        return data;
+    }
+
+    public int[] toArray() {
+        return Arrays.copyOf(data, size);
+    }
+
+    private void grow(int min) {
+        long cap = Math.max(min, data.length + (data.length >> 1) + 1L);
+        data = Arrays.copyOf(data, (int) Math.min(cap, Integer.MAX_VALUE - 8));
+    }
+}
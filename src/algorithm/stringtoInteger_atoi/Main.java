@@ -1,5 +1,7 @@
 package algorithm.stringtoInteger_atoi;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Locale;
@@ -10,6 +12,7 @@ import java.util.Scanner;
  *
  * What this runner provides:
  * - Run built-in sample cases:                --cases
+ * - Parse a comma/newline separated file:     --file=path   (chunked, on all cores)
  * - Run on arbitrary inputs (CLI or REPL)
  * - Timing/metadata toggle                    :meta on|off
  * - Clean output (only the integer) + optional meta line
@@ -46,6 +49,10 @@ public final class Main {
                     runCases();
                     return;
                 }
+                if (a.startsWith("--file=")) {
+                    runFile(a.substring("--file=".length()));
+                    return;
+                }
             }
             // treat non-flag args as inputs
             List<String> inputs = Arrays.stream(args)
@@ -127,6 +134,28 @@ public final class Main {
         }
     }
 
+    private static void runFile(String path) {
+        IntArrayList values = new IntArrayList(1 << 16);
+        long t0 = System.nanoTime();
+        AtoiFileReport report;
+        try {
+            report = new ParallelAtoiFileParser().parseFile(Path.of(path), values);
+        } catch (IOException e) {
+            System.out.println("cannot read " + path + ": " + e.getMessage());
+            return;
+        }
+        long t1 = System.nanoTime();
+
+        System.out.println(values.size() + " values");
+        if (showMeta) {
+            System.out.printf(Locale.US,
+                    "[atoi-file] path=%s, chunks=%d, overflowed=%d, invalid=%d, time=%.3f ms%n",
+                    path, report.chunks(), report.overflows(), report.errors(), (t1 - t0) / 1_000_000.0);
+            if (report.overflows() > 0) System.out.println("first overflow at byte " + report.overflowOffsets()[0]);
+            if (report.errors() > 0) System.out.println("first invalid field at byte " + report.errorOffsets()[0]);
+        }
+    }
+
     /* ======================= Samples ======================= */
 
     private static void runCases() {
@@ -167,6 +196,7 @@ public final class Main {
 
                 flags:
                   --cases              run samples then exit
+                  --file=path          parse every number in a ,/newline separated file
                   --help | -h          show this help
 
                 notes:
@@ -0,0 +1,115 @@
+package algorithm.stringtoInteger_atoi;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Multi-core version of {@link ByteBufferAtoiParser#parseFile(Path, IntArrayList)}.
+ * <p>
+ * The file is mapped in windows of up to {@link ByteBufferAtoiParser#MAX_WINDOW} bytes; each
+ * window is cut into chunks of about {@link #CHUNK} bytes whose ends are moved forward to just
+ * past a delimiter, so no value straddles two chunks. Chunks are parsed on a
+ * {@link ForkJoinPool} by one shared (stateless) parser and their values appended to the
+ * output in file order. Overflow and error positions come back as absolute file offsets in an
+ * {@link AtoiFileReport}. Windows are processed one after another, so at most one mapping is
+ * live per call.
+ * Time: O(n / p) for p workers, Space: O(values) plus one chunk-local copy of them.
+ */
+public final class ParallelAtoiFileParser {
+    /** Target chunk size; big enough to amortize task overhead, small enough to balance. */
+    static final int CHUNK = 1 << 22;
+
+    private final ByteBufferAtoiParser parser;
+    private final ForkJoinPool pool;
+
+    public ParallelAtoiFileParser() {
+        this(new SwarAtoiParser(), ForkJoinPool.commonPool());
+    }
+
+    public ParallelAtoiFileParser(ByteBufferAtoiParser parser, ForkJoinPool pool) {
+        if (parser == null || pool == null) throw new IllegalArgumentException("input is null");
+        this.parser = parser;
+        this.pool = pool;
+    }
+
+    /** Parses every delimited value in {@code file} into {@code out}, in file order. */
+    public AtoiFileReport parseFile(Path file, IntArrayList out) throws IOException {
+        Offsets overflows = new Offsets();
+        Offsets errors = new Offsets();
+        long chunks = ByteBufferAtoiParser.forEachWindow(file,
+                (map, end, pos) -> parseWindow(map, 0, end, pos, out, overflows, errors));
+        return new AtoiFileReport(overflows.toArray(), errors.toArray(), (int) chunks);
+    }
+
+    /**
+     * Parses [position, limit) of an in-memory buffer the same way; offsets are buffer indices.
+     * The buffer's position is not changed.
+     */
+    public AtoiFileReport parseAll(ByteBuffer buf, IntArrayList out) {
+        Offsets overflows = new Offsets();
+        Offsets errors = new Offsets();
+        int chunks = parseWindow(buf, buf.position(), buf.limit(), 0, out, overflows, errors);
+        return new AtoiFileReport(overflows.toArray(), errors.toArray(), chunks);
+    }
+
+    /* ======================= Core ======================= */
+
+    /** Parses buf[from, end); positions are buffer indices plus {@code base}. */
+    private int parseWindow(ByteBuffer buf, int from, int end, long base, IntArrayList out,
+                            Offsets overflows, Offsets errors) {
+        int[] bounds = chunkBounds(buf, from, end);
+        int n = bounds.length - 1;
+        IntArrayList[] values = new IntArrayList[n];
+        IntArrayList[] overflowAt = new IntArrayList[n];
+        IntArrayList[] errorAt = new IntArrayList[n];
+        AtoiChunkTask task = new AtoiChunkTask(parser, buf, bounds, values, overflowAt, errorAt, 0, n);
+        if (n == 1) task.parseChunk(0); // small input: skip the pool hand-off
+        else pool.invoke(task);
+
+        int total = out.size();
+        for (IntArrayList v : values) total += v.size();
+        out.ensureCapacity(total);
+        for (int c = 0; c < n; c++) {
+            out.addAll(values[c]);
+            overflows.addAll(overflowAt[c], base);
+            errors.addAll(errorAt[c], base);
+        }
+        return n;
+    }
+
+    /** Chunk starts plus a final {@code end}; every inner bound sits just after a delimiter. */
+    static int[] chunkBounds(ByteBuffer buf, int from, int end) {
+        int[] bounds = new int[(int) ((end - from) / (long) CHUNK) + 2];
+        int n = 0;
+        int start = from;
+        do {
+            bounds[n++] = start;
+            int next = (int) Math.min(end, (long) start + CHUNK);
+            while (next < end && !ByteBufferAtoiParser.isDelimiter(buf.get(next - 1))) next++;
+            start = next;
+        } while (start < end);
+        bounds[n++] = end;
+        return Arrays.copyOf(bounds, n);
+    }
+
+    /** Growable list of absolute offsets. */
+    private static final class Offsets {
+        private long[] data = new long[8];
+        private int size;
+
+        void addAll(IntArrayList relative, long base) {
+            if (size + relative.size() > data.length) {
+                data = Arrays.copyOf(data, Math.max(size + relative.size(), data.length * 2));
+            }
+            int[] rel = relative.array();
+            for (int i = 0; i < relative.size(); i++) data[size++] = base + rel[i];
+        }
+
+        long[] toArray() {
+            return Arrays.copyOf(data, size);
+        }
+    }
+}
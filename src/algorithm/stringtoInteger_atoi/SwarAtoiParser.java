@@ -0,0 +1,59 @@
+package algorithm.stringtoInteger_atoi;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * {@link ByteBufferAtoiParser} with an eight-digits-at-a-time digit loop (SWAR:
+ * SIMD within a register).
+ * <p>
+ * Each step loads 8 bytes into a long (first byte lowest), finds the length k of the
+ * leading digit run with carry-safe byte arithmetic, and converts those k digits with
+ * three multiplies. A chunk is only taken when the running magnitude stays <= INT_MAX;
+ * otherwise, and for the last < 8 bytes, the scalar loop runs, so clamping, the overflow
+ * flag and endIndex are exactly those of {@link DefaultAtoiParser}.
+ */
+public class SwarAtoiParser extends ByteBufferAtoiParser {
+    private static final long ZEROS = 0x3030303030303030L;
+    private static final long HIGH_BITS = 0x8080808080808080L;
+    private static final long BELOW_TEN = 0x7676767676767676L; // 0x80 - 10 per byte
+    private static final long[] POW10 = {1, 10, 100, 1_000, 10_000, 100_000, 1_000_000, 10_000_000, 100_000_000};
+
+    @Override
+    protected long digits(ByteBuffer buf, int i, int to, boolean negative, int num) {
+        long acc = num;
+        boolean swapBytes = buf.order() == ByteOrder.BIG_ENDIAN;
+        while (i + 8 <= to) {
+            long v = buf.getLong(i);
+            if (swapBytes) v = Long.reverseBytes(v);
+
+            int k = leadingDigits(v);
+            if (k == 0) break;
+            long next = acc * POW10[k] + eightDigits((v - ZEROS) << (8 * (8 - k)));
+            if (next > Integer.MAX_VALUE) break; // let the scalar loop find the exact overflow index
+            acc = next;
+            i += k;
+            if (k < 8) return AtoiResult.pack(negative ? (int) -acc : (int) acc, false, i);
+        }
+        return super.digits(buf, i, to, negative, (int) acc);
+    }
+
+    /**
+     * Number of leading ASCII digits in v (byte 0 first), 0..8.
+     * A byte is a digit iff (b ^ '0') <= 9; adding 0x76 sets the byte's high bit otherwise.
+     * Carries only leave bytes that are already non-digits, so bytes before the first
+     * non-digit are classified exactly.
+     */
+    static int leadingDigits(long v) {
+        long x = v ^ ZEROS;
+        long nonDigit = (x | (x + BELOW_TEN)) & HIGH_BITS;
+        return Long.numberOfTrailingZeros(nonDigit) >>> 3; // 64 >>> 3 == 8 when all are digits
+    }
+
+    /** Value of 8 digit bytes (0..9 each, byte 0 most significant). */
+    static long eightDigits(long d) {
+        d = d * 10 + (d >>> 8);
+        return (((d & 0x000000FF000000FFL) * (100 + (1_000_000L << 32)))
+                + (((d >>> 16) & 0x000000FF000000FFL) * (1 + (10_000L << 32)))) >>> 32;
+    }
+}
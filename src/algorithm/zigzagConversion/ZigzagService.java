@@ -1,20 +1,29 @@
 package algorithm.zigzagConversion;
 
-/** Service that delegates to a pluggable Converter strategy. */
+import algorithm.common.StrategyHolder;
+
+import java.util.Map;
+
+/** Service that delegates to a pluggable Converter strategy; the converter can be swapped under load. */
 public class ZigzagService {
 
-    private Converter converter;
+    private final StrategyHolder<Converter> converter;
 
     public ZigzagService(Converter converter) {
-        this.converter = converter;
+        this.converter = new StrategyHolder<>(converter);
     }
 
     public String convert(String s, int numRows) {
-        return converter.convert(s, numRows);
+        return converter.acquire().convert(s, numRows);
     }
 
     public void setConverter(Converter converter) {
-        this.converter = converter;
+        this.converter.set(converter);
+    }
+
+    /** Calls served per converter class since this service was created. */
+    public Map<Class<?>, Long> callCountsByClass() {
+        return converter.callCountsByClass();
     }
 
     /** Factory helpers for convenience */